@@ -167,6 +167,63 @@ CREATE TABLE IF NOT EXISTS assignment_submissions (
     UNIQUE(assignment_id, student_id)
 );
 
+-- 학생별 학기 신청 학점 원장 (수강신청/승인/반려/취소 시 증감)
+CREATE TABLE IF NOT EXISTS student_semester_credits (
+    student_id BIGINT NOT NULL,
+    semester VARCHAR(10) NOT NULL,               -- 학기 (예: 2026-1, 2026-2)
+    pending_credits INTEGER NOT NULL DEFAULT 0,  -- 승인 대기 중인 학점
+    approved_credits INTEGER NOT NULL DEFAULT 0, -- 승인된 학점
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (student_id, semester),
+    FOREIGN KEY (student_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+-- 내용 주소 기반 파일 저장소 (같은 내용의 파일은 한 번만 저장, 참조 수 관리)
+CREATE TABLE IF NOT EXISTS file_blobs (
+    sha256 CHAR(64) PRIMARY KEY,                -- 파일 내용 해시
+    file_size BIGINT NOT NULL,
+    storage_path VARCHAR(500) NOT NULL UNIQUE,  -- 저장소 기준 경로 (blobs/ab/cd/<sha256>)
+    ref_count INTEGER NOT NULL DEFAULT 0,       -- 이 파일을 가리키는 강의 자료/과제 제출 수
+    unreferenced_at TIMESTAMP,                  -- 참조가 0이 된 시각 (정리 대상 판단용)
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 리프레시 토큰 (토큰 값은 저장하지 않고 SHA-256만 저장, 재발급 시마다 교체)
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    token_hash CHAR(64) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    family_id VARCHAR(36) NOT NULL,           -- 같은 로그인에서 이어진 토큰 묶음 (재사용 감지 시 묶음 전체 폐기)
+    access_jti VARCHAR(36),                    -- 함께 발급한 액세스 토큰 ID
+    access_expires_at TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP,
+    replaced_by CHAR(64),                      -- 교체된 새 토큰 (교체된 토큰이 다시 쓰이면 탈취로 판단)
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+-- 폐기된 액세스 토큰 (만료 시각까지만 보관, 서버 메모리에 주기적으로 동기화)
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    jti VARCHAR(36) PRIMARY KEY,
+    user_id BIGINT,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 수강신청별 출석 집계 (출석 입력/수정/삭제 시 증감)
+CREATE TABLE IF NOT EXISTS attendance_counters (
+    enrollment_id BIGINT PRIMARY KEY,
+    course_id BIGINT NOT NULL,
+    total_count INTEGER NOT NULL DEFAULT 0,
+    present_count INTEGER NOT NULL DEFAULT 0,
+    late_count INTEGER NOT NULL DEFAULT 0,
+    absent_count INTEGER NOT NULL DEFAULT 0,
+    excused_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (enrollment_id) REFERENCES enrollments(enrollment_id) ON DELETE CASCADE,
+    FOREIGN KEY (course_id) REFERENCES courses(course_id) ON DELETE CASCADE
+);
+
 -- ============================================
 -- 3. 인덱스 생성
 -- ============================================
@@ -186,6 +243,16 @@ CREATE INDEX IF NOT EXISTS idx_grades_enrollment ON grades(enrollment_id);
 CREATE INDEX IF NOT EXISTS idx_attendance_student ON attendance(student_id);
 CREATE INDEX IF NOT EXISTS idx_attendance_course ON attendance(course_id);
 CREATE INDEX IF NOT EXISTS idx_attendance_date ON attendance(attendance_date);
+CREATE INDEX IF NOT EXISTS idx_attendance_counters_course ON attendance_counters(course_id);
+
+-- 토큰 인덱스
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user ON refresh_tokens(user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family ON refresh_tokens(family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires ON refresh_tokens(expires_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_tokens_revoked ON revoked_tokens(revoked_at);
+
+-- 파일 저장소 인덱스 (참조가 없는 파일 정리용)
+CREATE INDEX IF NOT EXISTS idx_file_blobs_unreferenced ON file_blobs(unreferenced_at) WHERE ref_count = 0;
 
 -- 공지사항 테이블 인덱스
 CREATE INDEX IF NOT EXISTS idx_announcements_course ON announcements(course_id);
@@ -280,63 +347,50 @@ $$ LANGUAGE plpgsql;
 -- 5. 트리거 함수 및 트리거
 -- ============================================
 
--- 트리거 함수 1: 수강신청 승인 시 current_students 증가
-CREATE OR REPLACE FUNCTION update_current_students_on_approval()
-RETURNS TRIGGER AS $$
-BEGIN
-    IF NEW.status = 'APPROVED' AND (OLD.status IS NULL OR OLD.status != 'APPROVED') THEN
-        UPDATE courses
-        SET current_students = current_students + 1,
-            updated_at = CURRENT_TIMESTAMP
-        WHERE course_id = NEW.course_id;
-        
-        -- 정원이 가득 찼는지 확인
-        UPDATE courses
-        SET status = 'FULL'
-        WHERE course_id = NEW.course_id
-          AND current_students >= max_students;
-    END IF;
-    
-    IF OLD.status = 'APPROVED' AND NEW.status != 'APPROVED' THEN
-        UPDATE courses
-        SET current_students = GREATEST(0, current_students - 1),
-            updated_at = CURRENT_TIMESTAMP
-        WHERE course_id = NEW.course_id;
-        
-        -- FULL 상태에서 벗어났는지 확인
-        UPDATE courses
-        SET status = 'OPEN'
-        WHERE course_id = NEW.course_id
-          AND status = 'FULL'
-          AND current_students < max_students;
-    END IF;
-    
-    RETURN NEW;
-END;
-$$ LANGUAGE plpgsql;
-
--- 트리거 1: 수강신청 상태 변경 시 정원 업데이트
+-- 정원(current_students)은 애플리케이션의 조건부 UPDATE(CourseMapper.reserveSeat / releaseSeat)로만 증감합니다.
+-- 트리거와 애플리케이션이 동시에 증가시키면 정원이 이중으로 계산되므로 기존 트리거는 제거합니다.
 DROP TRIGGER IF EXISTS trigger_update_current_students ON enrollments;
-CREATE TRIGGER trigger_update_current_students
-AFTER INSERT OR UPDATE ON enrollments
-FOR EACH ROW
-EXECUTE FUNCTION update_current_students_on_approval();
+DROP FUNCTION IF EXISTS update_current_students_on_approval();
+
+-- 이중 증가로 어긋난 정원을 승인된 수강신청 수 기준으로 재계산
+UPDATE courses c
+SET current_students = (SELECT COUNT(*) FROM enrollments e
+                        WHERE e.course_id = c.course_id AND e.status = 'APPROVED');
+
+-- 기존 출석 기록으로 출석 집계 생성/재계산
+INSERT INTO attendance_counters (enrollment_id, course_id, total_count, present_count, late_count, absent_count, excused_count, updated_at)
+SELECT enrollment_id, course_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE status = 'PRESENT'),
+       COUNT(*) FILTER (WHERE status = 'LATE'),
+       COUNT(*) FILTER (WHERE status = 'ABSENT'),
+       COUNT(*) FILTER (WHERE status = 'EXCUSED'),
+       CURRENT_TIMESTAMP
+FROM attendance
+GROUP BY enrollment_id, course_id
+ON CONFLICT (enrollment_id) DO UPDATE
+SET total_count = EXCLUDED.total_count,
+    present_count = EXCLUDED.present_count,
+    late_count = EXCLUDED.late_count,
+    absent_count = EXCLUDED.absent_count,
+    excused_count = EXCLUDED.excused_count,
+    updated_at = CURRENT_TIMESTAMP;
 
 -- 트리거 함수 2: 수강신청 승인 시 총 학점 자동 업데이트
 CREATE OR REPLACE FUNCTION update_student_total_credits()
 RETURNS TRIGGER AS $$
 BEGIN
-    -- 승인된 경우 총 학점 업데이트
+    -- 승인된 경우 총 학점 증가 (전체 이력을 다시 합산하지 않고 변경분만 반영)
     IF NEW.status = 'APPROVED' AND (OLD.status IS NULL OR OLD.status != 'APPROVED') THEN
         UPDATE users
-        SET total_credits = calculate_student_total_credits(NEW.student_id)
+        SET total_credits = total_credits + COALESCE(NEW.credits, 0)
         WHERE user_id = NEW.student_id;
     END IF;
     
-    -- 승인에서 다른 상태로 변경된 경우 총 학점 업데이트
+    -- 승인에서 다른 상태로 변경된 경우 총 학점 감소
     IF OLD.status = 'APPROVED' AND NEW.status != 'APPROVED' THEN
         UPDATE users
-        SET total_credits = calculate_student_total_credits(NEW.student_id)
+        SET total_credits = GREATEST(0, total_credits - COALESCE(OLD.credits, 0))
         WHERE user_id = NEW.student_id;
     END IF;
     
@@ -0,0 +1,70 @@
+// 수강신청 기간 부하 테스트 (k6)
+//
+// 플랫폼 스레드 모드와 가상 스레드 모드를 같은 조건으로 비교합니다.
+//   1) ./gradlew bootRun                                             (기본: Tomcat 플랫폼 스레드 200개)
+//      k6 run -e BASE_URL=http://localhost:8080 loadtest/k6/registration.js --summary-export=platform.json
+//   2) ./gradlew bootRun --args='--spring.profiles.active=virtual'   (가상 스레드 + DB 동시 사용 제한)
+//      k6 run -e BASE_URL=http://localhost:8080 loadtest/k6/registration.js --summary-export=virtual.json
+// 두 결과의 http_req_duration p95/p99, http_reqs(처리량), http_req_failed를 비교합니다.
+// 매번 같은 초기 데이터(database/complete_schema.sql)에서 시작해야 수강신청 결과가 비교 가능합니다.
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const STUDENTS = (__ENV.STUDENTS || 'student1:password1,student2:password2').split(',');
+const COURSE_IDS = (__ENV.COURSE_IDS || '1,2,3').split(',').map(Number);
+
+export const options = {
+    scenarios: {
+        registration: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: 200 },
+                { duration: '1m', target: 1000 },
+                { duration: '2m', target: 1000 },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<1000'],
+    },
+};
+
+export function setup() {
+    return STUDENTS.map((credentials) => {
+        const [username, password] = credentials.split(':');
+        const res = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({ username, password }), {
+            headers: { 'Content-Type': 'application/json' },
+        });
+        const body = res.json();
+        return { token: body.data.token, userId: body.data.user.userId };
+    });
+}
+
+export default function (sessions) {
+    const session = sessions[__VU % sessions.length];
+    const headers = {
+        Authorization: `Bearer ${session.token}`,
+        'Content-Type': 'application/json',
+    };
+
+    // 강의 목록 → 수강신청 → 메인 화면 순서 (신청 중복/정원 초과 응답도 정상 처리로 간주)
+    const courses = http.get(`${BASE_URL}/api/courses`, { headers, tags: { name: 'courses' } });
+    check(courses, { 'courses 200': (r) => r.status === 200 });
+
+    const courseId = COURSE_IDS[Math.floor(Math.random() * COURSE_IDS.length)];
+    const apply = http.post(`${BASE_URL}/api/enrollments/apply`,
+        JSON.stringify({ studentId: session.userId, courseId }),
+        { headers, tags: { name: 'apply' } });
+    check(apply, { 'apply 200': (r) => r.status === 200 });
+
+    const dashboard = http.get(`${BASE_URL}/api/me/dashboard`, { headers, tags: { name: 'dashboard' } });
+    check(dashboard, { 'dashboard 200': (r) => r.status === 200 });
+
+    sleep(Math.random());
+}
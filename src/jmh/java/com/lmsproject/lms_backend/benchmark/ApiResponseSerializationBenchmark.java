@@ -0,0 +1,66 @@
+package com.lmsproject.lms_backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.lmsproject.lms_backend.model.ApiResponse;
+import com.lmsproject.lms_backend.model.Enrollment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 API 응답(ApiResponse&lt;List&lt;Enrollment&gt;&gt;)의 JSON 직렬화 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<Enrollment>> response;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트 기본 ObjectMapper와 같은 설정 (JavaTimeModule 등록, 날짜를 문자열로 출력)
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        LocalDateTime appliedAt = LocalDateTime.of(2026, 3, 2, 10, 0);
+        List<Enrollment> enrollments = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            enrollments.add(Enrollment.builder()
+                    .enrollmentId((long) i)
+                    .studentId((long) (i % 5000))
+                    .courseId((long) (i % 300))
+                    .studentName("학생" + i)
+                    .courseName("자료구조")
+                    .courseCode("CS201")
+                    .credits(3)
+                    .status("APPROVED")
+                    .appliedAt(appliedAt)
+                    .approvedAt(appliedAt.plusDays(1))
+                    .build());
+        }
+        response = ApiResponse.success(enrollments);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
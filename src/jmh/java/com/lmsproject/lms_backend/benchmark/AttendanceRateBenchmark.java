@@ -0,0 +1,79 @@
+package com.lmsproject.lms_backend.benchmark;
+
+import com.lmsproject.lms_backend.mapper.AttendanceCounterMapper;
+import com.lmsproject.lms_backend.mapper.AttendanceMapper;
+import com.lmsproject.lms_backend.mapper.EnrollmentMapper;
+import com.lmsproject.lms_backend.model.Attendance;
+import com.lmsproject.lms_backend.model.AttendanceStats;
+import com.lmsproject.lms_backend.service.AttendanceService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 출석률 계산 비용 (출석 집계 테이블 조회는 메모리 스텁으로 대체)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AttendanceRateBenchmark {
+
+    private static final Long ENROLLMENT_ID = 1L;
+
+    /** 수강신청 한 건의 출석 기록 수 */
+    @Param({"16", "48"})
+    public int classCount;
+
+    private AttendanceService attendanceService;
+
+    @Setup
+    public void setUp() {
+        String[] statuses = {"PRESENT", "PRESENT", "PRESENT", "LATE", "ABSENT", "EXCUSED"};
+        List<Attendance> records = new ArrayList<>(classCount);
+        LocalDate start = LocalDate.now().minusWeeks(classCount);
+        for (int i = 0; i < classCount; i++) {
+            records.add(Attendance.builder()
+                    .attendanceId((long) i)
+                    .enrollmentId(ENROLLMENT_ID)
+                    .attendanceDate(start.plusWeeks(i))
+                    .status(statuses[i % statuses.length])
+                    .build());
+        }
+
+        // 출석 집계 테이블 조회 결과 (출석 기록으로부터 계산)
+        AttendanceStats stats = AttendanceStats.builder()
+                .enrollmentId(ENROLLMENT_ID)
+                .totalCount(records.size())
+                .presentCount(count(records, "PRESENT"))
+                .lateCount(count(records, "LATE"))
+                .absentCount(count(records, "ABSENT"))
+                .excusedCount(count(records, "EXCUSED"))
+                .build();
+        AttendanceCounterMapper counterMapper = InMemoryMappers.stub(AttendanceCounterMapper.class)
+                .on("findByEnrollmentId", args -> Optional.of(stats))
+                .build();
+        attendanceService = new AttendanceService(InMemoryMappers.stub(AttendanceMapper.class).build(),
+                counterMapper, InMemoryMappers.stub(EnrollmentMapper.class).build());
+    }
+
+    private static int count(List<Attendance> records, String status) {
+        return (int) records.stream().filter(a -> a.getStatus().equals(status)).count();
+    }
+
+    @Benchmark
+    public BigDecimal calculateAttendanceRate() {
+        return attendanceService.calculateAttendanceRate(ENROLLMENT_ID);
+    }
+}
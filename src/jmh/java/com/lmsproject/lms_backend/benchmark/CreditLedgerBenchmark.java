@@ -0,0 +1,100 @@
+package com.lmsproject.lms_backend.benchmark;
+
+import com.lmsproject.lms_backend.mapper.CreditLedgerMapper;
+import com.lmsproject.lms_backend.model.Enrollment;
+import com.lmsproject.lms_backend.model.SemesterCredits;
+import com.lmsproject.lms_backend.service.CreditLedgerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수강신청 시 학기 학점 확인 비용.
+ * 기존 EnrollmentService.calculateCurrentSemesterCredits(학생의 전체 수강신청을 조회해 합산)는
+ * CreditLedgerService로 대체되었으므로, 기존 방식(fullScanBaseline)과 원장 조회를 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CreditLedgerBenchmark {
+
+    private static final Long STUDENT_ID = 1L;
+
+    /** 학생 한 명의 누적 수강신청 수 (여러 학기) */
+    @Param({"10", "100", "1000"})
+    public int enrollmentCount;
+
+    private List<Enrollment> enrollments;
+    private CreditLedgerService ledgerService;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        String[] statuses = {"PENDING", "APPROVED", "REJECTED", "CANCELLED"};
+        enrollments = new ArrayList<>(enrollmentCount);
+        for (int i = 0; i < enrollmentCount; i++) {
+            enrollments.add(Enrollment.builder()
+                    .enrollmentId((long) i)
+                    .studentId(STUDENT_ID)
+                    .courseId((long) i)
+                    .credits(3)
+                    .status(statuses[i % statuses.length])
+                    .appliedAt(now.minusMonths(i % 48))
+                    .build());
+        }
+
+        SemesterCredits ledger = SemesterCredits.builder()
+                .studentId(STUDENT_ID)
+                .semester(CreditLedgerService.semesterOf(now))
+                .pendingCredits(3)
+                .approvedCredits(9)
+                .build();
+        // 조건부 UPDATE는 DB 왕복이므로 스텁은 현재 값을 그대로 돌려줍니다 (서비스 측 오버헤드만 측정)
+        CreditLedgerMapper mapper = InMemoryMappers.stub(CreditLedgerMapper.class)
+                .on("findByStudentIdAndSemester", args -> Optional.of(ledger))
+                .on("reservePendingCredits", args -> ledger)
+                .build();
+        ledgerService = new CreditLedgerService(mapper);
+        ledgerService.getCurrentSemesterCredits(STUDENT_ID);
+    }
+
+    @Benchmark
+    public int fullScanBaseline() {
+        return calculateCurrentSemesterCredits(enrollments);
+    }
+
+    @Benchmark
+    public int ledgerLookup() {
+        return ledgerService.getCurrentSemesterCredits(STUDENT_ID);
+    }
+
+    @Benchmark
+    public void ledgerReserve() {
+        ledgerService.reservePendingCredits(STUDENT_ID, 3);
+    }
+
+    /**
+     * 기존 EnrollmentService.calculateCurrentSemesterCredits와 같은 계산 (findByStudentId 결과를 메모리에서 합산)
+     */
+    private static int calculateCurrentSemesterCredits(List<Enrollment> enrollments) {
+        LocalDateTime now = LocalDateTime.now();
+        return enrollments.stream()
+                .filter(e -> e.getStatus().equals("PENDING") || e.getStatus().equals("APPROVED"))
+                .filter(e -> e.getAppliedAt() != null
+                        && e.getAppliedAt().getYear() == now.getYear()
+                        && (e.getAppliedAt().getMonthValue() <= 6) == (now.getMonthValue() <= 6))
+                .mapToInt(e -> e.getCredits() != null ? e.getCredits() : 0)
+                .sum();
+    }
+}
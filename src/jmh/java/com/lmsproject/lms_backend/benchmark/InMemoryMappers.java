@@ -0,0 +1,53 @@
+package com.lmsproject.lms_backend.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 벤치마크용 매퍼 스텁.
+ * 등록한 메서드만 메모리 데이터로 응답하고, 나머지 메서드는 호출되면 예외를 던집니다.
+ */
+final class InMemoryMappers {
+
+    private InMemoryMappers() {
+    }
+
+    static <T> Builder<T> stub(Class<T> mapperType) {
+        return new Builder<>(mapperType);
+    }
+
+    static final class Builder<T> {
+        private final Class<T> mapperType;
+        private final Map<String, Function<Object[], Object>> handlers = new HashMap<>();
+
+        private Builder(Class<T> mapperType) {
+            this.mapperType = mapperType;
+        }
+
+        Builder<T> on(String methodName, Function<Object[], Object> handler) {
+            handlers.put(methodName, handler);
+            return this;
+        }
+
+        T build() {
+            Object proxy = Proxy.newProxyInstance(mapperType.getClassLoader(), new Class<?>[]{mapperType},
+                    (instance, method, args) -> {
+                        if (method.getDeclaringClass() == Object.class) {
+                            return switch (method.getName()) {
+                                case "hashCode" -> System.identityHashCode(instance);
+                                case "equals" -> instance == args[0];
+                                default -> mapperType.getSimpleName() + "(in-memory)";
+                            };
+                        }
+                        Function<Object[], Object> handler = handlers.get(method.getName());
+                        if (handler == null) {
+                            throw new UnsupportedOperationException(mapperType.getSimpleName() + "." + method.getName());
+                        }
+                        return handler.apply(args);
+                    });
+            return mapperType.cast(proxy);
+        }
+    }
+}
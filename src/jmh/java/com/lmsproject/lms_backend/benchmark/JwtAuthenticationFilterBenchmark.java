@@ -0,0 +1,128 @@
+package com.lmsproject.lms_backend.benchmark;
+
+import com.lmsproject.lms_backend.config.JwtAuthenticationFilter;
+import com.lmsproject.lms_backend.mapper.RevokedTokenMapper;
+import com.lmsproject.lms_backend.service.TokenRevocationService;
+import com.lmsproject.lms_backend.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 실행되는 JWT 인증 필터 비용 (doFilter → doFilterInternal)
+ * 폐기 목록에 토큰 10,000개가 있는 상태에서 측정합니다.
+ * legacyAuthenticatedRequest는 비교 기준으로, 이전 필터처럼 validateToken 후 extract*로 토큰을 다섯 번 파싱합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private LegacyJwtAuthenticationFilter legacyFilter;
+    private String authorization;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setUp() {
+        var jwtUtil = JwtBenchmark.newJwtUtil();
+        RevokedTokenMapper revokedTokenMapper = InMemoryMappers.stub(RevokedTokenMapper.class)
+                .on("insertRevoked", args -> 1)
+                .build();
+        TokenRevocationService revocationService = new TokenRevocationService(revokedTokenMapper, 30);
+        long expiresAt = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+        for (int i = 0; i < 10_000; i++) {
+            revocationService.revoke(UUID.randomUUID().toString(), (long) i, expiresAt);
+        }
+
+        filter = new JwtAuthenticationFilter(jwtUtil, revocationService);
+        legacyFilter = new LegacyJwtAuthenticationFilter(jwtUtil);
+        authorization = "Bearer " + jwtUtil.generateToken(1L, "student1", "STUDENT",
+                UUID.randomUUID().toString(), new Date(expiresAt));
+    }
+
+    @Benchmark
+    public void authenticatedRequest(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/enrollments/student/1");
+        request.addHeader("Authorization", authorization);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            blackhole.consume(request.getAttribute("userId"));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public void legacyAuthenticatedRequest(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/enrollments/student/1");
+        request.addHeader("Authorization", authorization);
+        try {
+            legacyFilter.doFilter(request, new MockHttpServletResponse(), chain);
+            blackhole.consume(request.getAttribute("userId"));
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    @Benchmark
+    public void anonymousRequest(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/courses");
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        blackhole.consume(request.getAttribute("userId"));
+    }
+
+    /**
+     * 이전 인증 필터 (요청마다 서명 검증 + 클레임 파싱을 validateToken, extractUserId, extractUsername, extractRole에서 각각 수행)
+     */
+    static final class LegacyJwtAuthenticationFilter extends OncePerRequestFilter {
+
+        private final JwtUtil jwtUtil;
+
+        LegacyJwtAuthenticationFilter(JwtUtil jwtUtil) {
+            this.jwtUtil = jwtUtil;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+                throws ServletException, IOException {
+            String bearerToken = request.getHeader("Authorization");
+            String token = bearerToken != null && bearerToken.startsWith("Bearer ") ? bearerToken.substring(7) : null;
+
+            if (token != null && jwtUtil.validateToken(token)) {
+                Long userId = jwtUtil.extractUserId(token);
+                String username = jwtUtil.extractUsername(token);
+                String role = jwtUtil.extractRole(token);
+
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                        username, null, Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))));
+                request.setAttribute("userId", userId);
+                request.setAttribute("username", username);
+                request.setAttribute("role", role);
+            }
+
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.lmsproject.lms_backend.benchmark;
+
+import com.lmsproject.lms_backend.mapper.UserMapper;
+import com.lmsproject.lms_backend.model.User;
+import com.lmsproject.lms_backend.service.PasswordHashingService;
+import com.lmsproject.lms_backend.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 처리량/지연 시간 (BCrypt 강도별)
+ * 32개 스레드가 동시에 로그인하는 상황에서 해시 전용 스레드 풀(CPU 코어 수)을 거친 처리량과 지연 분포(p99 등)를 측정합니다.
+ * 사용자 조회는 메모리 스텁으로 대체합니다.
+ * ./gradlew jmh -PjmhIncludes=PasswordHashingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class PasswordHashingBenchmark {
+
+    @Param({"8", "10", "12"})
+    public int strength;
+
+    private PasswordHashingService passwordHashingService;
+    private UserService userService;
+
+    @Setup
+    public void setUp() {
+        // 대기 한도를 충분히 크게 하여 거절 없이 대기 시간만 측정
+        passwordHashingService = new PasswordHashingService(strength, 0, 10_000, 60_000);
+        String storedHash = passwordHashingService.hash("password1");
+
+        UserMapper userMapper = InMemoryMappers.stub(UserMapper.class)
+                .on("findByUsername", args -> Optional.of(User.builder()
+                        .userId(1L)
+                        .username((String) args[0])
+                        .password(storedHash)
+                        .role("STUDENT")
+                        .build()))
+                .build();
+        userService = new UserService(userMapper, passwordHashingService);
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashingService.shutdown();
+    }
+
+    @Benchmark
+    public User login() {
+        return userService.login("student1", "password1");
+    }
+
+    @Benchmark
+    public String hash() {
+        return passwordHashingService.hash("password1");
+    }
+}
@@ -0,0 +1,120 @@
+package com.lmsproject.lms_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DB 동시 사용 제한 (가상 스레드 모드용, lms.db.concurrency-limit.enabled=true)
+ * 가상 스레드는 요청 수만큼 생기므로 커넥션 풀 앞에 풀 크기만큼의 세마포어를 두어,
+ * 커넥션을 기다리는 요청은 Hikari 대기열 대신 세마포어에서 (캐리어 스레드를 점유하지 않고) 대기하게 합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "lms.db.concurrency-limit.enabled", havingValue = "true")
+public class DbConcurrencyLimitConfig {
+
+    @Bean
+    public static BeanPostProcessor dbConcurrencyLimiter(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                // 0이면 커넥션 풀 최대 크기 사용
+                int permits = environment.getProperty("lms.db.concurrency-limit.permits", Integer.class, 0);
+                if (permits <= 0) {
+                    permits = bean instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+                }
+                long timeoutMs = environment.getProperty("lms.db.concurrency-limit.acquire-timeout-ms", Long.class, 30000L);
+                return new ConcurrencyLimitedDataSource(dataSource, permits, timeoutMs);
+            }
+        };
+    }
+
+    /**
+     * 커넥션을 얻기 전에 허가를 받고, 커넥션을 닫을 때 반납합니다.
+     */
+    static class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+        private final Semaphore permits;
+        private final long acquireTimeoutMs;
+
+        ConcurrencyLimitedDataSource(DataSource target, int permits, long acquireTimeoutMs) {
+            super(target);
+            this.permits = new Semaphore(permits, true);
+            this.acquireTimeoutMs = acquireTimeoutMs;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            acquire();
+            try {
+                return releasing(super.getConnection());
+            } catch (SQLException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            acquire();
+            try {
+                return releasing(super.getConnection(username, password));
+            } catch (SQLException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        private void acquire() throws SQLException {
+            try {
+                if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new SQLTransientConnectionException("DB 연결 대기 시간이 초과되었습니다.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("DB 연결 대기 중 중단되었습니다.", e);
+            }
+        }
+
+        private Connection releasing(Connection connection) {
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] {Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            } finally {
+                                permits.release();
+                            }
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
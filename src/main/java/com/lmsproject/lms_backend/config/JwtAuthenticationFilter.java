@@ -1,5 +1,7 @@
 package com.lmsproject.lms_backend.config;
 
+import com.lmsproject.lms_backend.service.TokenRevocationService;
+import com.lmsproject.lms_backend.util.JwtPrincipal;
 import com.lmsproject.lms_backend.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -15,6 +17,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -22,6 +25,7 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService revocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -39,6 +43,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 인증이 필요 없는 경로는 통과
         if (path.startsWith("/api/auth/login") || 
             path.startsWith("/api/auth/register") ||
+            path.startsWith("/api/auth/refresh") ||
             path.equals("/api/test/db")) {
             filterChain.doFilter(request, response);
             return;
@@ -46,30 +51,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = extractTokenFromRequest(request);
 
-        if (token != null && jwtUtil.validateToken(token)) {
-            try {
-                Long userId = jwtUtil.extractUserId(token);
-                String username = jwtUtil.extractUsername(token);
-                String role = jwtUtil.extractRole(token);
-
+        if (token != null) {
+            // 토큰 파싱/검증은 한 번만 수행 (이미 검증한 토큰은 캐시 조회)
+            // 폐기 여부는 메모리의 폐기 목록으로만 확인 (요청마다 DB 조회 없음)
+            Optional<JwtPrincipal> authenticated = jwtUtil.authenticate(token)
+                    .filter(principal -> !revocationService.isRevoked(principal.getTokenId()));
+            if (authenticated.isEmpty()) {
+                // 만료/위조/폐기된 토큰 (요청마다 남을 수 있어 logback-spring.xml에서 건수 제한)
+                log.warn("Rejected JWT: {} {}", method, path);
+            }
+            authenticated.ifPresent(principal -> {
                 // Spring Security 컨텍스트에 인증 정보 설정
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(
-                        username,
+                        principal.getUsername(),
                         null,
-                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role))
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + principal.getRole()))
                     );
                 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 
                 // 요청 속성에 사용자 정보 추가
-                request.setAttribute("userId", userId);
-                request.setAttribute("username", username);
-                request.setAttribute("role", role);
-                
-            } catch (Exception e) {
-                log.error("JWT token validation failed", e);
-            }
+                request.setAttribute("userId", principal.getUserId());
+                request.setAttribute("username", principal.getUsername());
+                request.setAttribute("role", principal.getRole());
+                request.setAttribute("tokenId", principal.getTokenId());
+                request.setAttribute("tokenExpiresAt", principal.getExpiresAtMillis());
+            });
         }
 
         filterChain.doFilter(request, response);
@@ -80,6 +88,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
         }
+        // EventSource는 헤더를 보낼 수 없으므로 공지사항 구독만 쿼리 파라미터 허용
+        if (request.getRequestURI().equals("/api/announcements/subscribe")) {
+            return request.getParameter("token");
+        }
         return null;
     }
 }
@@ -0,0 +1,63 @@
+package com.lmsproject.lms_backend.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 로그 샘플링 (logback-spring.xml에서 설정)
+ * 지정한 로거(로그인, JWT 등 요청마다 로그가 남는 경로)는 로거별로 초당 maxPerSecond건까지만 기록하고 나머지는 버립니다.
+ * ERROR 로그는 항상 기록합니다.
+ */
+public class LogSamplingFilter extends TurboFilter {
+
+    private Set<String> loggers = Set.of();
+    private int maxPerSecond = 20;
+
+    // 로거 이름 → [현재 구간(초), 구간 내 기록 수]
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    private static final class Window {
+        private final AtomicLong second = new AtomicLong();
+        private final AtomicLong count = new AtomicLong();
+    }
+
+    public void setLoggers(String loggers) {
+        this.loggers = Arrays.stream(loggers.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public void setMaxPerSecond(int maxPerSecond) {
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.isGreaterOrEqual(Level.ERROR) || !loggers.contains(logger.getName())) {
+            return FilterReply.NEUTRAL;
+        }
+        // 비활성화된 레벨은 기존 레벨 판단에 맡김 (샘플링 횟수를 소모하지 않음)
+        if (!logger.isEnabledFor(level)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Window window = windows.computeIfAbsent(logger.getName(), name -> new Window());
+        long now = System.currentTimeMillis() / 1000;
+        long current = window.second.get();
+        if (current != now && window.second.compareAndSet(current, now)) {
+            window.count.set(0);
+        }
+        return window.count.incrementAndGet() <= maxPerSecond ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+}
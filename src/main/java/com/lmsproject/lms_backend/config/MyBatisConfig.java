@@ -1,9 +1,19 @@
 package com.lmsproject.lms_backend.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.mybatis.spring.annotation.MapperScan;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @MapperScan("com.lmsproject.lms_backend.mapper")
 public class MyBatisConfig {
+
+    // MyBatis 자동 설정이 Interceptor 빈을 플러그인으로 등록
+    @Bean
+    public SqlMetricsInterceptor sqlMetricsInterceptor(MeterRegistry meterRegistry,
+                                                       @Value("${mybatis.metrics.slow-threshold-ms:500}") long slowThresholdMs) {
+        return new SqlMetricsInterceptor(meterRegistry, slowThresholdMs);
+    }
 }
@@ -24,6 +24,9 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**", "/api/test/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN") // 메트릭(SQL별 통계 포함), 로그 레벨은 관리자만
+                .requestMatchers("/api/admin/**").hasRole("ADMIN") // 운영 통계, 사용자 토큰 폐기는 관리자만
                 .anyRequest().permitAll() // JWT 필터에서 인증 처리
             )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -0,0 +1,61 @@
+package com.lmsproject.lms_backend.config;
+
+import com.lmsproject.lms_backend.util.SqlRequestStats;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 요청별 SQL 실행 수/DB 시간 집계
+ * 결과는 Server-Timing 응답 헤더로 내보내고 (ServerTimingAdvice), 실행 수가 기준(lms.sql.request-budget)을 넘거나
+ * 같은 SQL이 반복 실행(lms.sql.repeat-threshold회 이상, N+1 의심)되면 WARN 로그를 남깁니다.
+ */
+@Slf4j
+@Component
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    @Value("${lms.sql.request-budget:20}")
+    private int requestBudget;
+
+    @Value("${lms.sql.repeat-threshold:5}")
+    private int repeatThreshold;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.end();
+            // 본문 없는 응답 등 ServerTimingAdvice를 거치지 않은 경우
+            if (!response.isCommitted() && !response.containsHeader(SERVER_TIMING)) {
+                response.setHeader(SERVER_TIMING, stats.toServerTiming());
+            }
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlRequestStats stats) {
+        Map<String, Integer> repeated = stats.getRepeatedStatements(repeatThreshold);
+        if (stats.getStatementCount() > requestBudget) {
+            log.warn("SQL budget exceeded: {} {} ran {} statements ({}ms, budget {}) {}",
+                    request.getMethod(), request.getRequestURI(), stats.getStatementCount(),
+                    String.format(Locale.ROOT, "%.1f", stats.getDbTimeMs()), requestBudget, stats.getCountsByStatement());
+        } else if (!repeated.isEmpty()) {
+            log.warn("Possible N+1: {} {} repeated {}",
+                    request.getMethod(), request.getRequestURI(), repeated);
+        }
+    }
+}
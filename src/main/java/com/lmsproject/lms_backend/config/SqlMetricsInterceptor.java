@@ -0,0 +1,152 @@
+package com.lmsproject.lms_backend.config;
+
+import com.lmsproject.lms_backend.util.SqlRequestStats;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매퍼 SQL(statement ID)별 실행 시간, 반환/변경 행 수, 오류 수를 Micrometer에 기록합니다.
+ * (mybatis.statement, mybatis.statement.rows, mybatis.statement.errors - statement 태그)
+ * 기준 시간을 넘는 SQL은 statement ID, 실행 시간, SQL(바인딩 값 제외)을 WARN 로그로 남깁니다.
+ * 요청 처리 중이면 요청별 집계(SqlRequestStats)에도 기록합니다.
+ * Cursor 조회(queryCursor)는 커서를 여는 시간만 측정합니다.
+ */
+@Slf4j
+@Intercepts({
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor", args = {MappedStatement.class, Object.class, RowBounds.class})
+})
+public class SqlMetricsInterceptor implements Interceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final Map<String, StatementMeters> metersByStatement = new ConcurrentHashMap<>();
+
+    public SqlMetricsInterceptor(MeterRegistry meterRegistry, long slowThresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    private static final class StatementMeters {
+        private final Timer timer;
+        private final DistributionSummary rows;
+        private final Counter errors;
+
+        private StatementMeters(Timer timer, DistributionSummary rows, Counter errors) {
+            this.timer = timer;
+            this.rows = rows;
+            this.errors = errors;
+        }
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement statement = (MappedStatement) invocation.getArgs()[0];
+        StatementMeters meters = metersByStatement.computeIfAbsent(statement.getId(), this::register);
+
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            meters.rows.record(rowCount(result));
+            return result;
+        } catch (Throwable e) {
+            meters.errors.increment();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            meters.timer.record(elapsed, TimeUnit.NANOSECONDS);
+            SqlRequestStats requestStats = SqlRequestStats.current();
+            if (requestStats != null) {
+                requestStats.record(statement.getId(), elapsed);
+            }
+            if (elapsed >= slowThresholdNanos) {
+                logSlowStatement(invocation, statement, elapsed);
+            }
+        }
+    }
+
+    private StatementMeters register(String statementId) {
+        return new StatementMeters(
+                Timer.builder("mybatis.statement")
+                        .description("MyBatis statement execution time")
+                        .tag("statement", statementId)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry),
+                DistributionSummary.builder("mybatis.statement.rows")
+                        .description("Rows returned or affected per execution")
+                        .tag("statement", statementId)
+                        .register(meterRegistry),
+                Counter.builder("mybatis.statement.errors")
+                        .tag("statement", statementId)
+                        .register(meterRegistry));
+    }
+
+    private static long rowCount(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Integer affected) {
+            return affected;
+        }
+        return 0;
+    }
+
+    /**
+     * 실행 시간 합계가 큰 순서로 SQL별 통계를 반환합니다.
+     */
+    public List<Map<String, Object>> getTopStatements(int limit) {
+        List<Map<String, Object>> statements = new ArrayList<>();
+        metersByStatement.forEach((statementId, meters) -> {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("statement", statementId);
+            stats.put("count", meters.timer.count());
+            stats.put("totalTimeMs", meters.timer.totalTime(TimeUnit.MILLISECONDS));
+            stats.put("meanTimeMs", meters.timer.mean(TimeUnit.MILLISECONDS));
+            stats.put("maxTimeMs", meters.timer.max(TimeUnit.MILLISECONDS));
+            stats.put("totalRows", (long) meters.rows.totalAmount());
+            stats.put("errorCount", (long) meters.errors.count());
+            statements.add(stats);
+        });
+        statements.sort(Comparator.comparingDouble((Map<String, Object> stats) -> (double) stats.get("totalTimeMs")).reversed());
+        return statements.subList(0, Math.min(limit, statements.size()));
+    }
+
+    // 바인딩 값에는 비밀번호/토큰 해시 등이 들어 있으므로 로그에 남기지 않음 (SQL은 ? 자리표시자 그대로)
+    private void logSlowStatement(Invocation invocation, MappedStatement statement, long elapsedNanos) {
+        try {
+            BoundSql boundSql = invocation.getArgs().length == 6
+                    ? (BoundSql) invocation.getArgs()[5]
+                    : statement.getBoundSql(invocation.getArgs()[1]);
+            log.warn("Slow SQL {} took {}ms: {}",
+                    statement.getId(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    boundSql.getSql().replaceAll("\\s+", " ").trim());
+        } catch (RuntimeException e) {
+            log.warn("Slow SQL {} took {}ms", statement.getId(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.lmsproject.lms_backend.controller;
+
+import com.lmsproject.lms_backend.config.SqlMetricsInterceptor;
+import com.lmsproject.lms_backend.model.ApiResponse;
+import com.lmsproject.lms_backend.service.AuthTokenService;
+import com.lmsproject.lms_backend.service.CourseService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/* 관리자 API 컨트롤러 - 운영 상태 화면 */
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AdminController {
+
+    private final SqlMetricsInterceptor sqlMetricsInterceptor;
+    private final AuthTokenService authTokenService;
+    private final CourseService courseService;
+
+    /* 관리자 화면 - 실행 시간 합계가 큰 SQL 목록 */
+    @GetMapping("/sql/statements")
+    public ApiResponse<List<Map<String, Object>>> getTopStatements(@RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ApiResponse.success(sqlMetricsInterceptor.getTopStatements(Math.max(1, limit)));
+        } catch (Exception e) {
+            return ApiResponse.error("SQL 통계 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /* 관리자 화면 - 강의 캐시 적중률 조회 */
+    @GetMapping("/cache/courses")
+    public ApiResponse<Map<String, Object>> getCourseCacheStats() {
+        try {
+            return ApiResponse.success(courseService.getCacheStats());
+        } catch (Exception e) {
+            return ApiResponse.error("강의 캐시 통계 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /* 관리자 화면 - 사용자 강제 로그아웃 (계정 정지 시 발급된 토큰 모두 폐기) */
+    @PostMapping("/users/{userId}/revoke-tokens")
+    public ApiResponse<Void> revokeTokens(@PathVariable Long userId) {
+        try {
+            authTokenService.revokeAllForUser(userId);
+            return ApiResponse.success("사용자의 토큰이 모두 폐기되었습니다.", null);
+        } catch (Exception e) {
+            return ApiResponse.error("토큰 폐기 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+}
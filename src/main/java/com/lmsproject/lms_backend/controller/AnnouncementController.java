@@ -2,11 +2,17 @@ package com.lmsproject.lms_backend.controller;
 
 import com.lmsproject.lms_backend.model.ApiResponse;
 import com.lmsproject.lms_backend.model.Announcement;
+import com.lmsproject.lms_backend.service.AnnouncementBroadcaster;
 import com.lmsproject.lms_backend.service.AnnouncementService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
 
 /* 공지사항 관리 API 컨트롤러 - 공지사항 목록/작성 화면 */
@@ -17,11 +23,17 @@ import java.util.List;
 public class AnnouncementController {
 
     private final AnnouncementService announcementService;
+    private final AnnouncementBroadcaster broadcaster;
 
     /* 공지사항 목록 화면 (app/announcements/page.tsx) */
     @GetMapping
-    public ApiResponse<List<Announcement>> getAllAnnouncements() {
+    public ApiResponse<List<Announcement>> getAllAnnouncements(@RequestParam(required = false) Long after,
+                                                               @RequestParam(required = false) Integer limit) {
         try {
+            // after 또는 limit을 지정하면 커서 페이지로 조회 (ID 내림차순)
+            if (after != null || limit != null) {
+                return ApiResponse.page(announcementService.getAnnouncementPage(after, limit));
+            }
             List<Announcement> announcements = announcementService.getAllAnnouncements();
             return ApiResponse.success(announcements);
         } catch (Exception e) {
@@ -29,6 +41,36 @@ public class AnnouncementController {
         }
     }
 
+    /* 메인 화면 - 내 공지사항 피드 (app/page.tsx) */
+    @GetMapping("/feed")
+    public ApiResponse<List<Announcement>> getFeed(HttpServletRequest request,
+                                                   @RequestParam(required = false) Long after,
+                                                   @RequestParam(required = false) Integer limit) {
+        try {
+            Long userId = (Long) request.getAttribute("userId");
+            if (userId == null) {
+                return ApiResponse.error("로그인이 필요합니다.");
+            }
+            return ApiResponse.page(announcementService.getFeed(userId, after, limit));
+        } catch (Exception e) {
+            return ApiResponse.error("공지사항 피드 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /* 공지사항 실시간 알림 구독 - 새 공지/수정 공지 (app/layout.tsx) */
+    @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(HttpServletRequest request, HttpServletResponse response,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) throws IOException {
+        Long userId = (Long) request.getAttribute("userId");
+        if (userId == null) {
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "로그인이 필요합니다.");
+            return null;
+        }
+        // 프록시가 응답을 모아서 보내지 않도록
+        response.setHeader("X-Accel-Buffering", "no");
+        return broadcaster.subscribe(userId, (String) request.getAttribute("role"), lastEventId);
+    }
+
     /* 공지사항 상세 화면 (app/announcements/page.tsx) */
     @GetMapping("/{announcementId}")
     public ApiResponse<Announcement> getAnnouncementById(@PathVariable Long announcementId) {
@@ -4,9 +4,12 @@ import com.lmsproject.lms_backend.model.ApiResponse;
 import com.lmsproject.lms_backend.model.Assignment;
 import com.lmsproject.lms_backend.model.AssignmentSubmission;
 import com.lmsproject.lms_backend.service.AssignmentService;
+import com.lmsproject.lms_backend.util.ApiResponseStreamer;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,11 +22,17 @@ import java.util.List;
 public class AssignmentController {
 
     private final AssignmentService assignmentService;
+    private final ApiResponseStreamer apiResponseStreamer;
 
     /* 과제 목록 화면 (app/assignments/page.tsx) */
     @GetMapping
-    public ApiResponse<List<Assignment>> getAllAssignments() {
+    public ApiResponse<List<Assignment>> getAllAssignments(@RequestParam(required = false) Long after,
+                                                           @RequestParam(required = false) Integer limit) {
         try {
+            // after 또는 limit을 지정하면 커서 페이지로 조회 (ID 내림차순)
+            if (after != null || limit != null) {
+                return ApiResponse.page(assignmentService.getAssignmentPage(after, limit));
+            }
             List<Assignment> assignments = assignmentService.getAllAssignments();
             return ApiResponse.success(assignments);
         } catch (Exception e) {
@@ -113,8 +122,13 @@ public class AssignmentController {
 
     /* 과제 제출물 목록 화면 (app/assignments/page.tsx) */
     @GetMapping("/submissions")
-    public ApiResponse<List<AssignmentSubmission>> getAllSubmissions() {
+    public ApiResponse<List<AssignmentSubmission>> getAllSubmissions(@RequestParam(required = false) Long after,
+                                                                     @RequestParam(required = false) Integer limit) {
         try {
+            // after 또는 limit을 지정하면 커서 페이지로 조회 (ID 내림차순)
+            if (after != null || limit != null) {
+                return ApiResponse.page(assignmentService.getSubmissionPage(after, limit));
+            }
             List<AssignmentSubmission> submissions = assignmentService.getAllSubmissions();
             return ApiResponse.success(submissions);
         } catch (Exception e) {
@@ -122,6 +136,12 @@ public class AssignmentController {
         }
     }
 
+    /* 과제 제출물 목록 내보내기 (스트리밍, 전체 목록을 한 번에 메모리에 올리지 않음) (app/assignments/page.tsx) */
+    @GetMapping(value = "/submissions/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody streamAllSubmissions() {
+        return apiResponseStreamer.stream(assignmentService::forEachSubmission);
+    }
+
     /* 과제 제출물 상세 화면 (app/assignments/page.tsx) */
     @GetMapping("/submissions/{submissionId}")
     public ApiResponse<AssignmentSubmission> getSubmissionById(@PathVariable Long submissionId) {
@@ -2,10 +2,15 @@ package com.lmsproject.lms_backend.controller;
 
 import com.lmsproject.lms_backend.model.ApiResponse;
 import com.lmsproject.lms_backend.model.Attendance;
+import com.lmsproject.lms_backend.model.AttendanceBulkResult;
+import com.lmsproject.lms_backend.model.AttendanceStats;
 import com.lmsproject.lms_backend.service.AttendanceService;
+import com.lmsproject.lms_backend.util.ApiResponseStreamer;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -20,11 +25,17 @@ import java.util.Map;
 public class AttendanceController {
 
     private final AttendanceService attendanceService;
+    private final ApiResponseStreamer apiResponseStreamer;
 
     /* 출석 목록 화면 - 전체 출석 조회 (app/attendance/page.tsx, app/admin/attendance/page.tsx) */
     @GetMapping
-    public ApiResponse<List<Attendance>> getAllAttendance() {
+    public ApiResponse<List<Attendance>> getAllAttendance(@RequestParam(required = false) Long after,
+                                                          @RequestParam(required = false) Integer limit) {
         try {
+            // after 또는 limit을 지정하면 커서 페이지로 조회 (ID 내림차순)
+            if (after != null || limit != null) {
+                return ApiResponse.page(attendanceService.getAttendancePage(after, limit));
+            }
             List<Attendance> attendance = attendanceService.getAllAttendance();
             return ApiResponse.success(attendance);
         } catch (Exception e) {
@@ -32,6 +43,12 @@ public class AttendanceController {
         }
     }
 
+    /* 출석 목록 내보내기 (스트리밍, 전체 목록을 한 번에 메모리에 올리지 않음) (app/attendance/page.tsx, app/admin/attendance/page.tsx) */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody streamAllAttendance() {
+        return apiResponseStreamer.stream(attendanceService::forEachAttendance);
+    }
+
     /* 출석 상세 화면 (app/attendance/page.tsx) */
     @GetMapping("/{attendanceId}")
     public ApiResponse<Attendance> getAttendanceById(@PathVariable Long attendanceId) {
@@ -66,6 +83,17 @@ public class AttendanceController {
         }
     }
 
+    /* 출석 관리 화면 - 강의 수강생 전체 출석률 (app/admin/attendance/page.tsx) */
+    @GetMapping("/course/{courseId}/stats")
+    public ApiResponse<List<AttendanceStats>> getCourseAttendanceStats(@PathVariable Long courseId) {
+        try {
+            List<AttendanceStats> stats = attendanceService.getCourseAttendanceStats(courseId);
+            return ApiResponse.success(stats);
+        } catch (Exception e) {
+            return ApiResponse.error("출석 통계 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
     /* 출석 목록 화면 - 학생별 조회 (app/attendance/page.tsx) */
     @GetMapping("/student/{studentId}")
     public ApiResponse<List<Attendance>> getAttendanceByStudentId(@PathVariable Long studentId) {
@@ -104,6 +132,23 @@ public class AttendanceController {
         }
     }
 
+    /* 출석 입력 화면 - 강의 회차 일괄 출석 (app/admin/attendance/page.tsx) */
+    @PostMapping("/bulk")
+    public ApiResponse<AttendanceBulkResult> recordAttendances(@RequestBody BulkAttendanceRequest request) {
+        try {
+            AttendanceBulkResult result = attendanceService.recordAttendances(
+                    request.getCourseId(),
+                    request.getAttendanceDate(),
+                    request.getRecords()
+            );
+            String message = String.format("출석 기록 완료 (신규 %d건, 변경 %d건, 동일 %d건, 실패 %d건)",
+                    result.getInserted(), result.getUpdated(), result.getUnchanged(), result.getFailures().size());
+            return ApiResponse.success(message, result);
+        } catch (Exception e) {
+            return ApiResponse.error("일괄 출석 기록 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
     /* 출석 수정 화면 (app/admin/attendance/page.tsx) */
     @PutMapping("/{attendanceId}")
     public ApiResponse<Attendance> updateAttendance(@PathVariable Long attendanceId, @RequestBody UpdateAttendanceRequest request) {
@@ -138,6 +183,13 @@ public class AttendanceController {
         private String notes;
     }
 
+    @Data
+    static class BulkAttendanceRequest {
+        private Long courseId;
+        private LocalDate attendanceDate;
+        private Map<Long, String> records; // 수강신청 ID → 출석 상태 (PRESENT, ABSENT, LATE, EXCUSED)
+    }
+
     @Data
     static class UpdateAttendanceRequest {
         private String status;
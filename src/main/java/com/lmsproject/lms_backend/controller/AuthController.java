@@ -3,10 +3,12 @@ package com.lmsproject.lms_backend.controller;
 import com.lmsproject.lms_backend.model.ApiResponse;
 import com.lmsproject.lms_backend.model.LoginRequest;
 import com.lmsproject.lms_backend.model.LoginResponse;
+import com.lmsproject.lms_backend.model.RefreshRequest;
 import com.lmsproject.lms_backend.model.RegisterRequest;
 import com.lmsproject.lms_backend.model.User;
+import com.lmsproject.lms_backend.service.AuthTokenService;
 import com.lmsproject.lms_backend.service.UserService;
-import com.lmsproject.lms_backend.util.JwtUtil;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
@@ -20,32 +22,23 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
     
     private final UserService userService;
-    private final JwtUtil jwtUtil;
+    private final AuthTokenService authTokenService;
     
     /* 로그인 화면 (app/login/page.tsx) */
     @PostMapping("/login")
     public ApiResponse<LoginResponse> login(@RequestBody LoginRequest request) {
-        log.info("Login request received: username={}", request != null ? request.getUsername() : "null");
-        
         try {
             if (request == null || request.getUsername() == null || request.getPassword() == null) {
-                log.warn("Invalid login request: request is null or missing credentials");
                 return ApiResponse.error("아이디와 비밀번호를 입력해주세요.");
             }
             
-            log.debug("Attempting login for user: {}", request.getUsername());
             User user = userService.login(request.getUsername(), request.getPassword());
             
             if (user != null) {
                 log.info("Login successful for user: {}", request.getUsername());
                 
-                // JWT 토큰 생성
-                String token = jwtUtil.generateToken(user.getUserId(), user.getUsername(), user.getRole());
-                
-                LoginResponse loginResponse = LoginResponse.builder()
-                        .token(token)
-                        .user(user)
-                        .build();
+                // 액세스 토큰 + 리프레시 토큰 발급
+                LoginResponse loginResponse = authTokenService.issue(user);
                 
                 return ApiResponse.success("로그인 성공", loginResponse);
             } else {
@@ -59,6 +52,40 @@ public class AuthController {
         }
     }
     
+    /* 토큰 재발급 - 액세스 토큰 만료 시 (app/layout.tsx) */
+    @PostMapping("/refresh")
+    public ApiResponse<LoginResponse> refresh(@RequestBody RefreshRequest request) {
+        try {
+            if (request == null || request.getRefreshToken() == null) {
+                return ApiResponse.error("리프레시 토큰이 필요합니다.");
+            }
+            return ApiResponse.success(authTokenService.refresh(request.getRefreshToken()));
+        } catch (RuntimeException e) {
+            return ApiResponse.error(e.getMessage());
+        } catch (Exception e) {
+            log.error("Token refresh error", e);
+            return ApiResponse.error("토큰 재발급 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+    
+    /* 로그아웃 (app/layout.tsx) */
+    @PostMapping("/logout")
+    public ApiResponse<Void> logout(@RequestBody(required = false) RefreshRequest request,
+                                    HttpServletRequest httpRequest) {
+        try {
+            authTokenService.logout(
+                    request != null ? request.getRefreshToken() : null,
+                    (String) httpRequest.getAttribute("tokenId"),
+                    (Long) httpRequest.getAttribute("userId"),
+                    (Long) httpRequest.getAttribute("tokenExpiresAt")
+            );
+            return ApiResponse.success("로그아웃되었습니다.", null);
+        } catch (Exception e) {
+            log.error("Logout error", e);
+            return ApiResponse.error("로그아웃 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+    
     /* 회원가입 화면 (app/register/page.tsx) */
     @PostMapping("/register")
     public ApiResponse<User> register(@RequestBody RegisterRequest request) {
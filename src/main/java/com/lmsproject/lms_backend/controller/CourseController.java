@@ -19,8 +19,13 @@ public class CourseController {
     
     /* 강의 목록 화면 (app/courses/page.tsx) */
     @GetMapping
-    public ApiResponse<List<Course>> getAllCourses() {
+    public ApiResponse<List<Course>> getAllCourses(@RequestParam(required = false) Long after,
+                                                   @RequestParam(required = false) Integer limit) {
         try {
+            // after 또는 limit을 지정하면 커서 페이지로 조회 (ID 내림차순)
+            if (after != null || limit != null) {
+                return ApiResponse.page(courseService.getCoursePage(after, limit));
+            }
             List<Course> courses = courseService.getAllCourses();
             return ApiResponse.success(courses);
         } catch (Exception e) {
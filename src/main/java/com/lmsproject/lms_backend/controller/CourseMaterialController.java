@@ -3,10 +3,15 @@ package com.lmsproject.lms_backend.controller;
 import com.lmsproject.lms_backend.model.ApiResponse;
 import com.lmsproject.lms_backend.model.CourseMaterial;
 import com.lmsproject.lms_backend.service.CourseMaterialService;
+import com.lmsproject.lms_backend.util.FileDownloadSupport;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 /* 강의 자료 관리 API 컨트롤러 - 강의 자료 목록/업로드 화면 */
@@ -17,11 +22,17 @@ import java.util.List;
 public class CourseMaterialController {
 
     private final CourseMaterialService materialService;
+    private final FileDownloadSupport fileDownloadSupport;
 
     /* 강의 자료 목록 화면 (app/materials/page.tsx) */
     @GetMapping
-    public ApiResponse<List<CourseMaterial>> getAllMaterials() {
+    public ApiResponse<List<CourseMaterial>> getAllMaterials(@RequestParam(required = false) Long after,
+                                                             @RequestParam(required = false) Integer limit) {
         try {
+            // after 또는 limit을 지정하면 커서 페이지로 조회 (ID 내림차순)
+            if (after != null || limit != null) {
+                return ApiResponse.page(materialService.getMaterialPage(after, limit));
+            }
             List<CourseMaterial> materials = materialService.getAllMaterials();
             return ApiResponse.success(materials);
         } catch (Exception e) {
@@ -122,6 +133,23 @@ public class CourseMaterialController {
         }
     }
 
+    /* 강의 자료 다운로드 화면 - 파일 받기 (이어받기/동영상 탐색용 Range, ETag 지원) (app/materials/page.tsx) */
+    @GetMapping("/{materialId}/file")
+    public void downloadFile(@PathVariable Long materialId, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        CourseMaterial material;
+        Path file;
+        try {
+            material = materialService.getMaterialById(materialId)
+                    .orElseThrow(() -> new RuntimeException("강의 자료를 찾을 수 없습니다."));
+            file = materialService.getMaterialFile(material);
+        } catch (Exception e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, e.getMessage());
+            return;
+        }
+        fileDownloadSupport.write(file, material.getFileName(), material.getFileType(), request, response);
+    }
+
     @Data
     static class CreateMaterialRequest {
 
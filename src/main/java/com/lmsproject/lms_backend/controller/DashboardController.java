@@ -0,0 +1,36 @@
+package com.lmsproject.lms_backend.controller;
+
+import com.lmsproject.lms_backend.model.ApiResponse;
+import com.lmsproject.lms_backend.model.Dashboard;
+import com.lmsproject.lms_backend.service.DashboardService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+/* 내 정보 API 컨트롤러 - 메인 화면 */
+@RestController
+@RequestMapping("/api/me")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /* 메인 화면 - 수강신청, 성적, 출석, 과제 제출, 공지사항을 한 번에 조회 (app/page.tsx) */
+    @GetMapping("/dashboard")
+    public ApiResponse<Dashboard> getDashboard(HttpServletRequest request) {
+        try {
+            Long userId = (Long) request.getAttribute("userId");
+            if (userId == null) {
+                return ApiResponse.error("로그인이 필요합니다.");
+            }
+            Dashboard dashboard = dashboardService.getStudentDashboard(userId);
+            if (!dashboard.getFailures().isEmpty()) {
+                return ApiResponse.success("일부 정보를 불러오지 못했습니다.", dashboard);
+            }
+            return ApiResponse.success(dashboard);
+        } catch (Exception e) {
+            return ApiResponse.error("메인 화면 정보 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+}
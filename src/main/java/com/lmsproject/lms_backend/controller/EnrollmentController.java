@@ -2,9 +2,15 @@ package com.lmsproject.lms_backend.controller;
 
 import com.lmsproject.lms_backend.model.ApiResponse;
 import com.lmsproject.lms_backend.model.Enrollment;
+import com.lmsproject.lms_backend.model.EnrollmentBatchResult;
+import com.lmsproject.lms_backend.model.EnrollmentTicket;
+import com.lmsproject.lms_backend.service.EnrollmentRushQueue;
 import com.lmsproject.lms_backend.service.EnrollmentService;
+import com.lmsproject.lms_backend.util.ApiResponseStreamer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -17,17 +23,30 @@ import java.util.Map;
 public class EnrollmentController {
     
     private final EnrollmentService enrollmentService;
+    private final EnrollmentRushQueue enrollmentRushQueue;
+    private final ApiResponseStreamer apiResponseStreamer;
     
     /* 수강신청 목록 화면 (app/enrollments/page.tsx, app/admin/enrollments/page.tsx) */
     @GetMapping
-    public ApiResponse<List<Enrollment>> getAllEnrollments() {
+    public ApiResponse<List<Enrollment>> getAllEnrollments(@RequestParam(required = false) Long after,
+                                                           @RequestParam(required = false) Integer limit) {
         try {
+            // after 또는 limit을 지정하면 커서 페이지로 조회 (ID 내림차순)
+            if (after != null || limit != null) {
+                return ApiResponse.page(enrollmentService.getEnrollmentPage(after, limit));
+            }
             List<Enrollment> enrollments = enrollmentService.getAllEnrollments();
             return ApiResponse.success(enrollments);
         } catch (Exception e) {
             return ApiResponse.error("수강신청 목록 조회 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
+
+    /* 수강신청 목록 내보내기 (스트리밍, 전체 목록을 한 번에 메모리에 올리지 않음) (app/enrollments/page.tsx, app/admin/enrollments/page.tsx) */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody streamAllEnrollments() {
+        return apiResponseStreamer.stream(enrollmentService::forEachEnrollment);
+    }
     
     /* 수강신청 상세 화면 (app/enrollments/page.tsx) */
     @GetMapping("/{enrollmentId}")
@@ -92,6 +111,36 @@ public class EnrollmentController {
         }
     }
     
+    /* 강의 목록 화면 - 수강신청 집중 기간 대기열 신청 (app/courses/page.tsx) */
+    @PostMapping("/apply/rush")
+    public ApiResponse<EnrollmentTicket> applyEnrollmentRush(@RequestBody Map<String, Long> request) {
+        try {
+            Long studentId = request.get("studentId");
+            Long courseId = request.get("courseId");
+            
+            if (studentId == null || courseId == null) {
+                return ApiResponse.error("학생 ID와 강의 ID가 필요합니다.");
+            }
+            
+            EnrollmentTicket ticket = enrollmentRushQueue.submit(studentId, courseId);
+            return ApiResponse.success("수강신청이 대기열에 등록되었습니다.", ticket);
+        } catch (Exception e) {
+            return ApiResponse.error("수강신청 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+    
+    /* 강의 목록 화면 - 대기열 번호표 조회 (app/courses/page.tsx) */
+    @GetMapping("/tickets/{ticketId}")
+    public ApiResponse<EnrollmentTicket> getTicket(@PathVariable String ticketId) {
+        try {
+            return enrollmentRushQueue.getTicket(ticketId)
+                    .map(ApiResponse::success)
+                    .orElse(ApiResponse.error("대기열 번호표를 찾을 수 없습니다."));
+        } catch (Exception e) {
+            return ApiResponse.error("대기열 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+    
     /* 수강신청 관리 화면 - 승인 버튼 (app/admin/enrollments/page.tsx) */
     @PostMapping("/{enrollmentId}/approve")
     public ApiResponse<Enrollment> approveEnrollment(@PathVariable Long enrollmentId) {
@@ -147,17 +196,9 @@ public class EnrollmentController {
                 return ApiResponse.error("승인할 수강신청을 선택해주세요.");
             }
             
-            List<Enrollment> approvedEnrollments = new java.util.ArrayList<>();
-            List<String> errors = new java.util.ArrayList<>();
-            
-            for (Integer id : enrollmentIds) {
-                try {
-                    Enrollment enrollment = enrollmentService.approveEnrollment(id.longValue());
-                    approvedEnrollments.add(enrollment);
-                } catch (Exception e) {
-                    errors.add("ID " + id + ": " + e.getMessage());
-                }
-            }
+            EnrollmentBatchResult result = enrollmentService.approveEnrollments(toLongIds(enrollmentIds));
+            List<Enrollment> approvedEnrollments = result.getSucceeded();
+            List<String> errors = formatFailures(result);
             
             if (approvedEnrollments.isEmpty()) {
                 return ApiResponse.error("승인된 수강신청이 없습니다: " + String.join(", ", errors));
@@ -186,17 +227,9 @@ public class EnrollmentController {
                 return ApiResponse.error("반려할 수강신청을 선택해주세요.");
             }
             
-            List<Enrollment> rejectedEnrollments = new java.util.ArrayList<>();
-            List<String> errors = new java.util.ArrayList<>();
-            
-            for (Integer id : enrollmentIds) {
-                try {
-                    Enrollment enrollment = enrollmentService.rejectEnrollment(id.longValue(), rejectionReason);
-                    rejectedEnrollments.add(enrollment);
-                } catch (Exception e) {
-                    errors.add("ID " + id + ": " + e.getMessage());
-                }
-            }
+            EnrollmentBatchResult result = enrollmentService.rejectEnrollments(toLongIds(enrollmentIds), rejectionReason);
+            List<Enrollment> rejectedEnrollments = result.getSucceeded();
+            List<String> errors = formatFailures(result);
             
             if (rejectedEnrollments.isEmpty()) {
                 return ApiResponse.error("반려된 수강신청이 없습니다: " + String.join(", ", errors));
@@ -212,4 +245,14 @@ public class EnrollmentController {
             return ApiResponse.error("일괄 반려 중 오류가 발생했습니다: " + e.getMessage());
         }
     }
+    
+    private List<Long> toLongIds(List<Integer> ids) {
+        return ids.stream().map(Integer::longValue).toList();
+    }
+    
+    private List<String> formatFailures(EnrollmentBatchResult result) {
+        return result.getFailures().entrySet().stream()
+                .map(entry -> "ID " + entry.getKey() + ": " + entry.getValue())
+                .toList();
+    }
 }
@@ -3,9 +3,12 @@ package com.lmsproject.lms_backend.controller;
 import com.lmsproject.lms_backend.model.ApiResponse;
 import com.lmsproject.lms_backend.model.Grade;
 import com.lmsproject.lms_backend.service.GradeService;
+import com.lmsproject.lms_backend.util.ApiResponseStreamer;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -18,11 +21,17 @@ import java.util.Map;
 public class GradeController {
 
     private final GradeService gradeService;
+    private final ApiResponseStreamer apiResponseStreamer;
 
     /* 성적 관리 화면 - 전체 성적 목록 (app/admin/grades/page.tsx) */
     @GetMapping
-    public ApiResponse<List<Grade>> getAllGrades() {
+    public ApiResponse<List<Grade>> getAllGrades(@RequestParam(required = false) Long after,
+                                                 @RequestParam(required = false) Integer limit) {
         try {
+            // after 또는 limit을 지정하면 커서 페이지로 조회 (ID 내림차순)
+            if (after != null || limit != null) {
+                return ApiResponse.page(gradeService.getGradePage(after, limit));
+            }
             List<Grade> grades = gradeService.getAllGrades();
             return ApiResponse.success(grades);
         } catch (Exception e) {
@@ -30,6 +39,12 @@ public class GradeController {
         }
     }
 
+    /* 성적 목록 내보내기 (스트리밍, 전체 목록을 한 번에 메모리에 올리지 않음) (app/admin/grades/page.tsx) */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody streamAllGrades() {
+        return apiResponseStreamer.stream(gradeService::forEachGrade);
+    }
+
     /* 성적 상세 화면 (app/admin/grades/page.tsx) */
     @GetMapping("/{gradeId}")
     public ApiResponse<Grade> getGradeById(@PathVariable Long gradeId) {
@@ -0,0 +1,135 @@
+package com.lmsproject.lms_backend.controller;
+
+import com.lmsproject.lms_backend.model.ApiResponse;
+import com.lmsproject.lms_backend.model.AssignmentSubmission;
+import com.lmsproject.lms_backend.model.CourseMaterial;
+import com.lmsproject.lms_backend.model.UploadSession;
+import com.lmsproject.lms_backend.service.UploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+/* 파일 업로드 API 컨트롤러 - 강의 자료 업로드/과제 제출 화면의 분할 업로드 */
+@RestController
+@RequestMapping("/api/uploads")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class UploadController {
+
+    private final UploadService uploadService;
+
+    /* 업로드 시작 (app/materials/page.tsx, app/assignments/page.tsx) */
+    @PostMapping
+    public ApiResponse<UploadSession> startUpload(@RequestBody StartUploadRequest request) {
+        try {
+            UploadSession session = uploadService.startUpload(
+                    request.getFileName(),
+                    request.getFileSize(),
+                    request.getFileType(),
+                    request.getSha256()
+            );
+            return ApiResponse.success(session);
+        } catch (Exception e) {
+            return ApiResponse.error("업로드 시작 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /* 업로드 상태 조회 - 이어서 올릴 위치 확인 (app/materials/page.tsx, app/assignments/page.tsx) */
+    @GetMapping("/{uploadId}")
+    public ApiResponse<UploadSession> getUpload(@PathVariable String uploadId) {
+        try {
+            return uploadService.getUpload(uploadId)
+                    .map(ApiResponse::success)
+                    .orElse(ApiResponse.error("업로드 정보를 찾을 수 없습니다."));
+        } catch (Exception e) {
+            return ApiResponse.error("업로드 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /* 조각 업로드 - 요청 본문이 파일 조각 (app/materials/page.tsx, app/assignments/page.tsx) */
+    @PutMapping(value = "/{uploadId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ApiResponse<UploadSession> writeChunk(@PathVariable String uploadId, @RequestParam long offset,
+                                                 HttpServletRequest request) {
+        try {
+            UploadSession session = uploadService.writeChunk(uploadId, offset, request.getInputStream());
+            return ApiResponse.success(session);
+        } catch (Exception e) {
+            return ApiResponse.error("파일 업로드 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /* 업로드 완료 - 강의 자료로 등록 (app/materials/page.tsx) */
+    @PostMapping("/{uploadId}/material")
+    public ApiResponse<CourseMaterial> completeAsMaterial(@PathVariable String uploadId,
+                                                          @RequestBody CompleteMaterialRequest request) {
+        try {
+            CourseMaterial material = uploadService.completeAsMaterial(
+                    uploadId,
+                    request.getCourseId(),
+                    request.getUploaderId(),
+                    request.getTitle(),
+                    request.getDescription(),
+                    request.getCategory()
+            );
+            return ApiResponse.success(material);
+        } catch (Exception e) {
+            return ApiResponse.error("강의 자료 업로드 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /* 업로드 완료 - 과제 제출 (app/assignments/page.tsx) */
+    @PostMapping("/{uploadId}/submission")
+    public ApiResponse<AssignmentSubmission> completeAsSubmission(@PathVariable String uploadId,
+                                                                  @RequestBody CompleteSubmissionRequest request) {
+        try {
+            AssignmentSubmission submission = uploadService.completeAsSubmission(
+                    uploadId,
+                    request.getAssignmentId(),
+                    request.getStudentId(),
+                    request.getEnrollmentId(),
+                    request.getContent()
+            );
+            return ApiResponse.success(submission);
+        } catch (Exception e) {
+            return ApiResponse.error("과제 제출 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /* 업로드 취소 (app/materials/page.tsx, app/assignments/page.tsx) */
+    @DeleteMapping("/{uploadId}")
+    public ApiResponse<Void> cancelUpload(@PathVariable String uploadId) {
+        try {
+            uploadService.cancelUpload(uploadId);
+            return ApiResponse.success(null);
+        } catch (Exception e) {
+            return ApiResponse.error("업로드 취소 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    @Data
+    static class StartUploadRequest {
+        private String fileName;
+        private Long fileSize;
+        private String fileType;
+        private String sha256; // 선택 - 보내면 완료 시 받은 내용의 해시와 비교하여 검증 (같은 파일이 있어도 업로드는 생략하지 않음)
+    }
+
+    @Data
+    static class CompleteMaterialRequest {
+        private Long courseId;
+        private Long uploaderId;
+        private String title;
+        private String description;
+        private String category; // 강의자료, 참고자료, 기타
+    }
+
+    @Data
+    static class CompleteSubmissionRequest {
+        private Long assignmentId;
+        private Long studentId;
+        private Long enrollmentId;
+        private String content;
+    }
+}
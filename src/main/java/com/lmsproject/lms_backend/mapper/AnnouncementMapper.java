@@ -2,20 +2,24 @@ package com.lmsproject.lms_backend.mapper;
 
 import com.lmsproject.lms_backend.model.Announcement;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Mapper
 public interface AnnouncementMapper {
     List<Announcement> findAll();
+    List<Announcement> findPage(@Param("after") Long after, @Param("limit") int limit);
+    List<Announcement> findFeed(@Param("userId") Long userId, @Param("after") Long after, @Param("limit") int limit);
     Optional<Announcement> findById(Long announcementId);
     List<Announcement> findByCourseId(Long courseId);
     List<Announcement> findByAuthorId(Long authorId);
     List<Announcement> findByTargetRole(String targetRole);
     List<Announcement> findImportant();
-    int insertAnnouncement(Announcement announcement);
-    int updateAnnouncement(Announcement announcement);
+    Announcement insertAnnouncement(Announcement announcement);
+    Optional<Announcement> updateAnnouncement(Announcement announcement);
     int deleteAnnouncement(Long announcementId);
-    int incrementViewCount(Long announcementId);
+    int addViewCounts(@Param("viewsById") Map<Long, Long> viewsById);
 }
@@ -2,6 +2,7 @@ package com.lmsproject.lms_backend.mapper;
 
 import com.lmsproject.lms_backend.model.Assignment;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,10 +10,11 @@ import java.util.Optional;
 @Mapper
 public interface AssignmentMapper {
     List<Assignment> findAll();
+    List<Assignment> findPage(@Param("after") Long after, @Param("limit") int limit);
     Optional<Assignment> findById(Long assignmentId);
     List<Assignment> findByCourseId(Long courseId);
     List<Assignment> findByInstructorId(Long instructorId);
-    int insertAssignment(Assignment assignment);
-    int updateAssignment(Assignment assignment);
+    Assignment insertAssignment(Assignment assignment);
+    Optional<Assignment> updateAssignment(Assignment assignment);
     int deleteAssignment(Long assignmentId);
 }
@@ -3,6 +3,7 @@ package com.lmsproject.lms_backend.mapper;
 import com.lmsproject.lms_backend.model.AssignmentSubmission;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,13 +11,15 @@ import java.util.Optional;
 @Mapper
 public interface AssignmentSubmissionMapper {
     List<AssignmentSubmission> findAll();
+    List<AssignmentSubmission> findPage(@Param("after") Long after, @Param("limit") int limit);
+    Cursor<AssignmentSubmission> streamAll();
     Optional<AssignmentSubmission> findById(Long submissionId);
     Optional<AssignmentSubmission> findByAssignmentIdAndStudentId(@Param("assignmentId") Long assignmentId, @Param("studentId") Long studentId);
     List<AssignmentSubmission> findByAssignmentId(Long assignmentId);
     List<AssignmentSubmission> findByStudentId(Long studentId);
     List<AssignmentSubmission> findByEnrollmentId(Long enrollmentId);
-    int insertSubmission(AssignmentSubmission submission);
-    int updateSubmission(AssignmentSubmission submission);
+    Optional<AssignmentSubmission> insertSubmission(AssignmentSubmission submission);
+    Optional<AssignmentSubmission> updateSubmission(AssignmentSubmission submission);
     int deleteSubmission(Long submissionId);
     int countByAssignmentId(Long assignmentId);
     int countByAssignmentIdAndStatus(@Param("assignmentId") Long assignmentId, @Param("status") String status);
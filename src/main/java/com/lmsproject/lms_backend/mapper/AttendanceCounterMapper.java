@@ -0,0 +1,15 @@
+package com.lmsproject.lms_backend.mapper;
+
+import com.lmsproject.lms_backend.model.AttendanceStats;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface AttendanceCounterMapper {
+    Optional<AttendanceStats> findByEnrollmentId(Long enrollmentId);
+    List<AttendanceStats> findByCourseId(Long courseId);
+    int applyDelta(AttendanceStats delta);
+    int applyDeltas(List<AttendanceStats> deltas);
+}
@@ -3,6 +3,7 @@ package com.lmsproject.lms_backend.mapper;
 import com.lmsproject.lms_backend.model.Attendance;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -11,14 +12,18 @@ import java.util.Optional;
 @Mapper
 public interface AttendanceMapper {
     List<Attendance> findAll();
+    List<Attendance> findPage(@Param("after") Long after, @Param("limit") int limit);
+    Cursor<Attendance> streamAll();
     Optional<Attendance> findById(Long attendanceId);
+    Optional<Attendance> findByIdForUpdate(Long attendanceId);
     List<Attendance> findByEnrollmentId(Long enrollmentId);
     List<Attendance> findByStudentId(Long studentId);
     List<Attendance> findByCourseId(Long courseId);
     Optional<Attendance> findByEnrollmentIdAndDate(@Param("enrollmentId") Long enrollmentId, @Param("date") LocalDate date);
-    int insertAttendance(Attendance attendance);
-    int updateAttendance(Attendance attendance);
+    Integer lockCourseDate(@Param("courseId") Long courseId, @Param("date") LocalDate date);
+    List<Attendance> findByEnrollmentIdsAndDateForUpdate(@Param("enrollmentIds") List<Long> enrollmentIds, @Param("date") LocalDate date);
+    Optional<Attendance> insertAttendance(Attendance attendance);
+    int upsertAttendances(List<Attendance> attendances);
+    Optional<Attendance> updateAttendance(Attendance attendance);
     int deleteAttendance(Long attendanceId);
-    int countByEnrollmentId(Long enrollmentId);
-    int countByEnrollmentIdAndStatus(@Param("enrollmentId") Long enrollmentId, @Param("status") String status);
 }
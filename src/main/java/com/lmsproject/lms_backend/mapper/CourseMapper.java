@@ -2,16 +2,24 @@ package com.lmsproject.lms_backend.mapper;
 
 import com.lmsproject.lms_backend.model.Course;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Mapper
 public interface CourseMapper {
     List<Course> findAll();
+    List<Course> findPage(@Param("after") Long after, @Param("limit") int limit);
     Optional<Course> findById(Long courseId);
     List<Course> findByInstructorId(Long instructorId);
+    List<Long> findSubscribedCourseIds(Long userId);
     int insertCourse(Course course);
     int updateCourse(Course course);
     int updateCurrentStudents(Long courseId, Integer currentStudents);
+    Integer reserveSeat(Long courseId);
+    Integer releaseSeat(Long courseId);
+    List<Course> findByIdsForUpdate(List<Long> courseIds);
+    int addSeats(@Param("seatsByCourse") Map<Long, Integer> seatsByCourse);
 }
@@ -2,6 +2,7 @@ package com.lmsproject.lms_backend.mapper;
 
 import com.lmsproject.lms_backend.model.CourseMaterial;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,11 +10,12 @@ import java.util.Optional;
 @Mapper
 public interface CourseMaterialMapper {
     List<CourseMaterial> findAll();
+    List<CourseMaterial> findPage(@Param("after") Long after, @Param("limit") int limit);
     Optional<CourseMaterial> findById(Long materialId);
     List<CourseMaterial> findByCourseId(Long courseId);
     List<CourseMaterial> findByCategory(String category);
-    int insertMaterial(CourseMaterial material);
-    int updateMaterial(CourseMaterial material);
+    CourseMaterial insertMaterial(CourseMaterial material);
+    Optional<CourseMaterial> updateMaterial(CourseMaterial material);
     int deleteMaterial(Long materialId);
     int incrementDownloadCount(Long materialId);
 }
@@ -0,0 +1,22 @@
+package com.lmsproject.lms_backend.mapper;
+
+import com.lmsproject.lms_backend.model.SemesterCredits;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface CreditLedgerMapper {
+    Optional<SemesterCredits> findByStudentIdAndSemester(@Param("studentId") Long studentId, @Param("semester") String semester);
+    int initializeFromEnrollments(@Param("studentId") Long studentId, @Param("semester") String semester,
+                                  @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+    SemesterCredits reservePendingCredits(@Param("studentId") Long studentId, @Param("semester") String semester,
+                                          @Param("credits") int credits, @Param("limit") int limit);
+    SemesterCredits adjustCredits(@Param("studentId") Long studentId, @Param("semester") String semester,
+                                  @Param("pendingDelta") int pendingDelta, @Param("approvedDelta") int approvedDelta);
+    int initializeMissing(List<SemesterCredits> ledgers);
+    List<SemesterCredits> adjustCreditsBatch(List<SemesterCredits> deltas);
+}
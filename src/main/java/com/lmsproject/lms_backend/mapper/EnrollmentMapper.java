@@ -2,6 +2,8 @@ package com.lmsproject.lms_backend.mapper;
 
 import com.lmsproject.lms_backend.model.Enrollment;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,12 +11,23 @@ import java.util.Optional;
 @Mapper
 public interface EnrollmentMapper {
     List<Enrollment> findAll();
+    List<Enrollment> findPage(@Param("after") Long after, @Param("limit") int limit);
+    Cursor<Enrollment> streamAll();
     Optional<Enrollment> findById(Long enrollmentId);
     Optional<Enrollment> findByStudentIdAndCourseId(Long studentId, Long courseId);
     List<Enrollment> findByStudentId(Long studentId);
     List<Enrollment> findByCourseId(Long courseId);
     List<Enrollment> findByStatus(String status);
-    int insertEnrollment(Enrollment enrollment);
-    int updateEnrollment(Enrollment enrollment);
+    List<Enrollment> findByIds(List<Long> enrollmentIds);
+    List<Enrollment> findByCourseIdAndStudentIds(@Param("courseId") Long courseId, @Param("studentIds") List<Long> studentIds);
+    Optional<Enrollment> insertEnrollment(Enrollment enrollment);
+    List<Enrollment> insertEnrollments(List<Enrollment> enrollments);
+    Optional<Enrollment> updateEnrollment(Enrollment enrollment);
+    Optional<Enrollment> approvePendingEnrollment(Long enrollmentId);
+    List<Enrollment> approvePendingEnrollments(List<Long> enrollmentIds);
+    List<Enrollment> rejectPendingEnrollments(@Param("enrollmentIds") List<Long> enrollmentIds, @Param("rejectionReason") String rejectionReason);
+    Optional<Enrollment> rejectPendingEnrollment(@Param("enrollmentId") Long enrollmentId, @Param("rejectionReason") String rejectionReason);
+    Optional<Enrollment> cancelApprovedEnrollment(Long enrollmentId);
+    int deletePendingEnrollment(Long enrollmentId);
     int deleteEnrollment(Long enrollmentId);
 }
@@ -0,0 +1,18 @@
+package com.lmsproject.lms_backend.mapper;
+
+import com.lmsproject.lms_backend.model.FileBlob;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Mapper
+public interface FileBlobMapper {
+    Optional<FileBlob> findBySha256(String sha256);
+    int insertOrTouch(FileBlob blob);
+    int addReference(String storagePath);
+    int releaseReferences(List<String> storagePaths);
+    List<String> deleteUnreferenced(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -2,6 +2,8 @@ package com.lmsproject.lms_backend.mapper;
 
 import com.lmsproject.lms_backend.model.Grade;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,11 +11,13 @@ import java.util.Optional;
 @Mapper
 public interface GradeMapper {
     List<Grade> findAll();
+    List<Grade> findPage(@Param("after") Long after, @Param("limit") int limit);
+    Cursor<Grade> streamAll();
     Optional<Grade> findById(Long gradeId);
     Optional<Grade> findByEnrollmentId(Long enrollmentId);
     List<Grade> findByStudentId(Long studentId);
     List<Grade> findByCourseId(Long courseId);
-    int insertGrade(Grade grade);
-    int updateGrade(Grade grade);
+    Optional<Grade> insertGrade(Grade grade);
+    Optional<Grade> updateGrade(Grade grade);
     int deleteGrade(Long gradeId);
 }
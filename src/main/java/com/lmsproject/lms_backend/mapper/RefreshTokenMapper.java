@@ -0,0 +1,19 @@
+package com.lmsproject.lms_backend.mapper;
+
+import com.lmsproject.lms_backend.model.RefreshToken;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Optional;
+
+@Mapper
+public interface RefreshTokenMapper {
+    Optional<RefreshToken> findByHash(String tokenHash);
+    int insertToken(RefreshToken token);
+    Optional<RefreshToken> rotate(@Param("tokenHash") String tokenHash, @Param("replacedBy") String replacedBy);
+    int revokeFamily(String familyId);
+    int revokeByUserId(Long userId);
+    int revokeAccessTokensOfFamily(String familyId);
+    int revokeAccessTokensOfUser(Long userId);
+    int deleteExpired();
+}
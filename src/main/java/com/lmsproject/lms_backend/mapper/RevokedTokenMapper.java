@@ -0,0 +1,14 @@
+package com.lmsproject.lms_backend.mapper;
+
+import com.lmsproject.lms_backend.model.RevokedToken;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Mapper
+public interface RevokedTokenMapper {
+    int insertRevoked(RevokedToken token);
+    List<RevokedToken> findRevokedSince(LocalDateTime since);
+    int deleteExpired();
+}
@@ -2,6 +2,7 @@ package com.lmsproject.lms_backend.mapper;
 
 import com.lmsproject.lms_backend.model.User;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.Optional;
 
@@ -11,4 +12,5 @@ public interface UserMapper {
     Optional<User> findById(Long userId);
     int insertUser(User user);
     int updateUser(User user);
+    int updatePassword(@Param("userId") Long userId, @Param("password") String password);
 }
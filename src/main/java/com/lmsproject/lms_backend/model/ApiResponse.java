@@ -1,10 +1,13 @@
 package com.lmsproject.lms_backend.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @NoArgsConstructor
@@ -15,6 +18,10 @@ public class ApiResponse<T> {
     private String message;
     private T data;
 
+    // 커서 페이지 조회 시 다음 페이지 커서 (페이지 조회가 아니거나 마지막 페이지면 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long nextCursor;
+
     public static <T> ApiResponse<T> success(T data) {
         return ApiResponse.<T>builder()
                 .success(true)
@@ -31,6 +38,15 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    public static <T> ApiResponse<List<T>> page(CursorPage<T> page) {
+        return ApiResponse.<List<T>>builder()
+                .success(true)
+                .message("성공")
+                .data(page.getItems())
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
     public static <T> ApiResponse<T> error(String message) {
         return ApiResponse.<T>builder()
                 .success(false)
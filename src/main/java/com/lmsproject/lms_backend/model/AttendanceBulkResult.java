@@ -0,0 +1,24 @@
+package com.lmsproject.lms_backend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceBulkResult {
+    private Long courseId;
+    private LocalDate attendanceDate;
+    private int inserted;  // 새로 기록
+    private int updated;   // 상태 변경
+    private int unchanged; // 이미 같은 상태로 기록됨
+    @Builder.Default
+    private Map<Long, String> failures = new LinkedHashMap<>(); // 수강신청 ID별 실패 사유
+}
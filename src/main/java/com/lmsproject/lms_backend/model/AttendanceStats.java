@@ -0,0 +1,28 @@
+package com.lmsproject.lms_backend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 수강신청별 출석 집계 (attendance_counters). 출석 입력/수정/삭제 시에는 증감량으로도 사용합니다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceStats {
+    private Long enrollmentId;
+    private Long courseId;
+    private Long studentId;
+    private String studentName;
+    private Integer totalCount;
+    private Integer presentCount;
+    private Integer lateCount;
+    private Integer absentCount;
+    private Integer excusedCount;
+    private BigDecimal attendanceRate; // 출석률 (%)
+}
@@ -0,0 +1,26 @@
+package com.lmsproject.lms_backend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Dashboard {
+    private Long userId;
+    private List<Enrollment> enrollments;
+    private List<Grade> grades;
+    private List<Attendance> attendance;
+    private List<AssignmentSubmission> submissions;
+    private List<Announcement> announcements; // 공지사항 피드 첫 페이지
+
+    @Builder.Default
+    private Map<String, String> failures = new LinkedHashMap<>(); // 불러오지 못한 항목 → 사유
+}
@@ -0,0 +1,22 @@
+package com.lmsproject.lms_backend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentBatchResult {
+    @Builder.Default
+    private List<Enrollment> succeeded = new ArrayList<>();
+    @Builder.Default
+    private Map<Long, String> failures = new LinkedHashMap<>(); // ID별 실패 사유
+}
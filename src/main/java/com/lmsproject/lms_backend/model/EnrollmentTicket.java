@@ -0,0 +1,25 @@
+package com.lmsproject.lms_backend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentTicket {
+    private String ticketId;
+    private Long studentId;
+    private Long courseId;
+    private String status; // QUEUED, COMPLETED, FAILED
+    private Long sequence;
+    private Long position; // 대기 중일 때 앞에 남은 요청 수
+    private Enrollment enrollment;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
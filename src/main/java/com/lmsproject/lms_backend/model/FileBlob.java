@@ -0,0 +1,21 @@
+package com.lmsproject.lms_backend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FileBlob {
+    private String sha256;
+    private Long fileSize;
+    private String storagePath; // blobs/ab/cd/<sha256>
+    private Integer refCount;
+    private LocalDateTime unreferencedAt;
+    private LocalDateTime createdAt;
+}
@@ -11,5 +11,7 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class LoginResponse {
     private String token;
+    private String refreshToken;
+    private Long expiresIn;     // 액세스 토큰 유효 시간 (초)
     private User user;
 }
@@ -0,0 +1,24 @@
+package com.lmsproject.lms_backend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+    private String tokenHash;   // 토큰 값의 SHA-256
+    private Long userId;
+    private String familyId;
+    private String accessJti;
+    private LocalDateTime accessExpiresAt;
+    private LocalDateTime expiresAt;
+    private LocalDateTime revokedAt;
+    private String replacedBy;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.lmsproject.lms_backend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedToken {
+    private String jti;
+    private Long userId;
+    private LocalDateTime expiresAt;
+    private LocalDateTime revokedAt;
+}
@@ -0,0 +1,21 @@
+package com.lmsproject.lms_backend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SemesterCredits {
+    private Long studentId;
+    private String semester; // 예: 2026-1, 2026-2
+    private Integer pendingCredits;
+    private Integer approvedCredits;
+
+    public int getTotalCredits() {
+        return (pendingCredits != null ? pendingCredits : 0) + (approvedCredits != null ? approvedCredits : 0);
+    }
+}
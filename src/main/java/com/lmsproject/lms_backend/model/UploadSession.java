@@ -0,0 +1,24 @@
+package com.lmsproject.lms_backend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadSession {
+    private String uploadId;
+    private String fileName;
+    private String fileType;
+    private Long fileSize;      // 전체 파일 크기 (업로드 시작 시 선언)
+    private Long receivedBytes; // 지금까지 받은 크기 (다음 조각의 offset)
+    private String sha256;      // 업로드 완료 후 계산된 내용 해시
+    private String status;      // UPLOADING, COMPLETED
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,375 @@
+package com.lmsproject.lms_backend.service;
+
+import com.lmsproject.lms_backend.mapper.CourseMapper;
+import com.lmsproject.lms_backend.model.Announcement;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 공지사항 실시간 알림 (Server-Sent Events)
+ * 연결마다 스레드를 두지 않고, 구독 정보(역할, 수강/담당 강의)만 보관한 뒤 배분 스레드 하나가 받을 연결을 고릅니다.
+ * 구독 목록과 최근 이벤트 버퍼는 배분 스레드에서만 변경하므로 별도 잠금이 없습니다.
+ * 실제 쓰기는 연결별 대기열에 넣고 소수의 전송 스레드가 보내므로, 응답이 느린 연결이 다른 연결의 전송을 막지 않습니다.
+ * (쓰기 한 번은 server.tomcat.connection-timeout 안에 끝나거나 실패하며, 대기열이 가득 찬 연결은 끊고 재연결 시 다시 보냄)
+ * 재연결 시 Last-Event-ID 이후의 이벤트를 최근 이벤트 버퍼에서 다시 보냅니다. (버퍼 범위를 벗어나면 resync 이벤트)
+ * 구독 정보는 서버 메모리에 있으므로 서버가 여러 대면 각 서버에서 작성된 공지만 전달됩니다.
+ */
+@Slf4j
+@Service
+public class AnnouncementBroadcaster {
+
+    public static final String CREATED = "announcement.created";
+    public static final String UPDATED = "announcement.updated";
+    private static final String RESYNC = "resync";
+
+    private final CourseMapper courseMapper;
+    private final long timeoutMs;
+    private final int replaySize;
+    private final int sendQueueSize;
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "announcement-sse");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 연결별 대기열의 이벤트를 실제로 쓰는 스레드 (연결 하나는 한 번에 한 스레드만 씀)
+    private final ExecutorService senders;
+
+    // 구독 갱신 시 수강 강의 조회 (공용 풀을 DB 대기로 막지 않도록 별도 스레드)
+    private final ExecutorService subscriptionLoader;
+
+    // 배분 스레드에서만 접근
+    private final Deque<Event> recentEvents = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = new HashSet<>();
+    private final Map<Long, Set<Subscriber>> subscribersByCourse = new HashMap<>();
+    private long lastEventId;
+
+    // 구독 갱신 대상 확인용 (다른 스레드에서도 조회)
+    private final Map<Long, Set<Subscriber>> subscribersByUser = new ConcurrentHashMap<>();
+
+    private static final class Event {
+        private final long id;
+        private final String name;
+        private final Announcement announcement;
+
+        private Event(long id, String name, Announcement announcement) {
+            this.id = id;
+            this.name = name;
+            this.announcement = announcement;
+        }
+    }
+
+    private static final class Subscriber {
+        private final Long userId;
+        private final String role;
+        private final SseEmitter emitter;
+        private Set<Long> courseIds;
+
+        // 보낼 이벤트 (배분 스레드가 넣고 전송 스레드가 꺼냄)
+        private final Queue<SseEmitter.SseEventBuilder> outbox;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(Long userId, String role, SseEmitter emitter, Set<Long> courseIds, int sendQueueSize) {
+            this.userId = userId;
+            this.role = role;
+            this.emitter = emitter;
+            this.courseIds = courseIds;
+            this.outbox = new ArrayBlockingQueue<>(sendQueueSize);
+        }
+    }
+
+    public AnnouncementBroadcaster(CourseMapper courseMapper,
+                                   @Value("${announcement.sse.timeout-ms:1800000}") long timeoutMs,
+                                   @Value("${announcement.sse.replay-size:1000}") int replaySize,
+                                   @Value("${announcement.sse.sender-threads:4}") int senderThreads,
+                                   @Value("${announcement.sse.send-queue-size:32}") int sendQueueSize) {
+        this.courseMapper = courseMapper;
+        this.timeoutMs = timeoutMs;
+        this.replaySize = replaySize;
+        this.sendQueueSize = sendQueueSize;
+        this.senders = Executors.newFixedThreadPool(senderThreads, daemonThreads("announcement-sse-send-"));
+        this.subscriptionLoader = Executors.newFixedThreadPool(2, daemonThreads("announcement-subscription-"));
+    }
+
+    public SseEmitter subscribe(Long userId, String role, String lastEventIdHeader) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, role, emitter,
+                Set.copyOf(courseMapper.findSubscribedCourseIds(userId)), sendQueueSize);
+        Long lastSeenId = parseEventId(lastEventIdHeader);
+
+        emitter.onCompletion(() -> dispatcher.execute(() -> unregister(subscriber)));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> dispatcher.execute(() -> unregister(subscriber)));
+
+        // 놓친 이벤트 재전송과 등록을 같은 스레드에서 처리하여 그 사이의 이벤트가 빠지지 않게 함
+        dispatcher.execute(() -> {
+            if (lastSeenId != null) {
+                replay(subscriber, lastSeenId);
+            }
+            register(subscriber);
+        });
+        return emitter;
+    }
+
+    /**
+     * 공지사항 작성/수정 이벤트 발행 (트랜잭션 안이라면 커밋 후에 전송)
+     */
+    public void publish(String name, Announcement announcement) {
+        afterCommit(() -> dispatcher.execute(() -> dispatch(name, announcement)));
+    }
+
+    /**
+     * 수강 승인/취소로 받는 강의가 바뀐 사용자의 구독 정보 갱신 (연결 중인 사용자만)
+     */
+    public void refreshSubscriptions(Collection<Long> userIds) {
+        afterCommit(() -> userIds.stream()
+                .filter(subscribersByUser::containsKey)
+                .forEach(userId -> CompletableFuture
+                        .supplyAsync(() -> Set.copyOf(courseMapper.findSubscribedCourseIds(userId)), subscriptionLoader)
+                        .thenAcceptAsync(courseIds -> updateCourses(userId, courseIds), dispatcher)
+                        .exceptionally(e -> {
+                            log.warn("Failed to refresh announcement subscription for user {}: {}", userId, e.getMessage());
+                            return null;
+                        })));
+    }
+
+    public int getSubscriberCount() {
+        return subscribersByUser.values().stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 라인 전송 (끊어진 연결도 이때 정리)
+     */
+    @Scheduled(fixedDelayString = "${announcement.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        dispatcher.execute(() -> {
+            for (Subscriber subscriber : new ArrayList<>(subscribers)) {
+                send(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        dispatcher.execute(() -> {
+            for (Subscriber subscriber : subscribers) {
+                subscriber.closed = true;
+                // 보내는 중인 연결은 전송 스레드가 쓰기를 마친 뒤 닫음
+                if (!subscriber.draining.get()) {
+                    finish(subscriber, null);
+                }
+            }
+            subscribers.clear();
+            subscribersByCourse.clear();
+            subscribersByUser.clear();
+        });
+        dispatcher.shutdown();
+        dispatcher.awaitTermination(5, TimeUnit.SECONDS);
+        subscriptionLoader.shutdown();
+        senders.shutdown();
+        senders.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void dispatch(String name, Announcement announcement) {
+        Event event = new Event(++lastEventId, name, announcement);
+        recentEvents.addLast(event);
+        while (recentEvents.size() > replaySize) {
+            recentEvents.removeFirst();
+        }
+
+        Collection<Subscriber> candidates = announcement.getCourseId() == null
+                ? subscribers
+                : subscribersByCourse.getOrDefault(announcement.getCourseId(), Set.of());
+        for (Subscriber subscriber : new ArrayList<>(candidates)) {
+            if (matches(subscriber, announcement)) {
+                send(subscriber, toSse(event));
+            }
+        }
+    }
+
+    private void replay(Subscriber subscriber, long lastSeenId) {
+        Event oldest = recentEvents.peekFirst();
+        boolean missedEvents = lastSeenId > lastEventId || (oldest != null && lastSeenId < oldest.id - 1);
+        if (missedEvents) {
+            // 서버 재시작 또는 버퍼 범위를 벗어남 - 클라이언트가 목록을 다시 조회하도록 알림
+            send(subscriber, SseEmitter.event().name(RESYNC).data(String.valueOf(lastEventId)));
+            return;
+        }
+        for (Event event : recentEvents) {
+            if (event.id > lastSeenId && matches(subscriber, event.announcement)) {
+                send(subscriber, toSse(event));
+            }
+        }
+    }
+
+    // AnnouncementMapper.findFeed와 같은 기준 (담당 교수는 자기 강의 공지를 모두 받음)
+    private static boolean matches(Subscriber subscriber, Announcement announcement) {
+        String targetRole = announcement.getTargetRole();
+        boolean roleMatches = targetRole == null || "ALL".equals(targetRole) || targetRole.equals(subscriber.role);
+        if (announcement.getCourseId() == null) {
+            return roleMatches;
+        }
+        return subscriber.courseIds.contains(announcement.getCourseId())
+                && (roleMatches || "INSTRUCTOR".equals(subscriber.role));
+    }
+
+    private static SseEmitter.SseEventBuilder toSse(Event event) {
+        return SseEmitter.event()
+                .id(String.valueOf(event.id))
+                .name(event.name)
+                .data(event.announcement, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * 연결의 대기열에 넣고 전송 스레드에 맡깁니다. (배분 스레드에서 호출, 쓰기를 기다리지 않음)
+     */
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.closed) {
+            return;
+        }
+        if (!subscriber.outbox.offer(event)) {
+            // 보내지 못한 이벤트가 쌓인 느린 연결은 끊음 (재연결하면 Last-Event-ID 이후부터 다시 받음)
+            log.debug("Dropping slow announcement subscriber: userId={}", subscriber.userId);
+            subscriber.closed = true;
+            unregister(subscriber);
+        }
+        // 대기열이 가득 찼다면 이미 전송 중이므로 전송 스레드가 쓰기를 마친 뒤 연결을 닫음
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * 대기열이 빌 때까지 보냅니다. (전송 스레드에서 실행, 연결 하나당 동시에 하나만 실행)
+     */
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.closed && (event = subscriber.outbox.poll()) != null) {
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // 끊어진 연결 또는 쓰기 대기 시간 초과
+                    subscriber.closed = true;
+                    dispatcher.execute(() -> unregister(subscriber));
+                    finish(subscriber, e);
+                }
+            }
+            if (subscriber.closed) {
+                subscriber.outbox.clear();
+                finish(subscriber, null);
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.closed && !subscriber.outbox.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private static void finish(Subscriber subscriber, Throwable error) {
+        if (!subscriber.completed.compareAndSet(false, true)) {
+            return;
+        }
+        if (error != null) {
+            subscriber.emitter.completeWithError(error);
+        } else {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void register(Subscriber subscriber) {
+        subscribers.add(subscriber);
+        subscriber.courseIds.forEach(courseId ->
+                subscribersByCourse.computeIfAbsent(courseId, id -> new HashSet<>()).add(subscriber));
+        subscribersByUser.computeIfAbsent(subscriber.userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscriber.closed = true;
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        removeFromCourses(subscriber);
+        subscribersByUser.computeIfPresent(subscriber.userId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private void updateCourses(Long userId, Set<Long> courseIds) {
+        for (Subscriber subscriber : subscribersByUser.getOrDefault(userId, Set.of())) {
+            removeFromCourses(subscriber);
+            subscriber.courseIds = courseIds;
+            courseIds.forEach(courseId ->
+                    subscribersByCourse.computeIfAbsent(courseId, id -> new HashSet<>()).add(subscriber));
+        }
+    }
+
+    private void removeFromCourses(Subscriber subscriber) {
+        subscriber.courseIds.forEach(courseId -> subscribersByCourse.computeIfPresent(courseId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        }));
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.lmsproject.lms_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lmsproject.lms_backend.mapper.AnnouncementMapper;
+import com.lmsproject.lms_backend.model.Announcement;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별 공지사항 피드 캐시 (피드 앞부분 max-items건)
+ * 공지사항 작성/수정/삭제 시 전체를, 수강 승인/취소 시 해당 학생의 피드를 무효화합니다.
+ * 반환된 목록과 Announcement 객체는 캐시와 공유되므로 수정하지 않아야 합니다.
+ */
+@Component
+public class AnnouncementFeedCache {
+
+    private final AnnouncementMapper announcementMapper;
+    private final Cache<Long, List<Announcement>> feedsByUser;
+    private final int maxItems;
+
+    public AnnouncementFeedCache(AnnouncementMapper announcementMapper,
+                                 @Value("${announcement.feed.cache.max-size:10000}") long maxSize,
+                                 @Value("${announcement.feed.cache.ttl-seconds:60}") long ttlSeconds,
+                                 @Value("${announcement.feed.cache.max-items:200}") int maxItems) {
+        this.announcementMapper = announcementMapper;
+        this.maxItems = maxItems;
+        this.feedsByUser = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    public List<Announcement> getFeedHead(Long userId) {
+        return feedsByUser.get(userId, id -> List.copyOf(announcementMapper.findFeed(id, null, maxItems)));
+    }
+
+    public void invalidateUser(Long userId) {
+        invalidateUsers(List.of(userId));
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 안이라면 커밋 후에 한 번 더 무효화합니다.
+     */
+    public void invalidateUsers(Collection<Long> userIds) {
+        feedsByUser.invalidateAll(userIds);
+        afterCompletion(() -> feedsByUser.invalidateAll(userIds));
+    }
+
+    public void invalidateAll() {
+        feedsByUser.invalidateAll();
+        afterCompletion(feedsByUser::invalidateAll);
+    }
+
+    private void afterCompletion(Runnable evict) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict.run();
+                }
+            });
+        }
+    }
+}
@@ -1,15 +1,14 @@
 package com.lmsproject.lms_backend.service;
 
 import com.lmsproject.lms_backend.mapper.AnnouncementMapper;
-import com.lmsproject.lms_backend.mapper.CourseMapper;
-import com.lmsproject.lms_backend.mapper.UserMapper;
 import com.lmsproject.lms_backend.model.Announcement;
-import com.lmsproject.lms_backend.model.Course;
-import com.lmsproject.lms_backend.model.User;
+import com.lmsproject.lms_backend.model.CursorPage;
+import com.lmsproject.lms_backend.util.ConstraintViolationTranslator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,54 +17,88 @@ import java.util.Optional;
 public class AnnouncementService {
 
     private final AnnouncementMapper announcementMapper;
-    private final CourseMapper courseMapper;
-    private final UserMapper userMapper;
+    private final AnnouncementViewCounter viewCounter;
+    private final AnnouncementFeedCache feedCache;
+    private final AnnouncementBroadcaster broadcaster;
 
     public List<Announcement> getAllAnnouncements() {
-        return announcementMapper.findAll();
+        return withPendingViews(announcementMapper.findAll());
+    }
+
+    public CursorPage<Announcement> getAnnouncementPage(Long after, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        return CursorPage.of(withPendingViews(announcementMapper.findPage(after, size + 1)), size, Announcement::getAnnouncementId);
+    }
+
+    /**
+     * 사용자 피드 (전체 공지 + 수강/담당 강의 공지, 중요 공지 우선)
+     * 앞부분은 사용자별 캐시에서 잘라 반환하고, 캐시 범위를 넘어서는 페이지만 DB에서 조회합니다.
+     */
+    public CursorPage<Announcement> getFeed(Long userId, Long after, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        List<Announcement> head = feedCache.getFeedHead(userId);
+
+        List<Announcement> fetched = new ArrayList<>(size + 1);
+        for (Announcement announcement : head) {
+            if (after == null || isAfterFeedCursor(announcement, after)) {
+                fetched.add(announcement.toBuilder().build());
+                if (fetched.size() > size) {
+                    break;
+                }
+            }
+        }
+        // 캐시된 앞부분으로 부족하고 뒤에 더 있을 수 있으면 DB에서 조회
+        if (fetched.size() <= size && head.size() >= feedCache.getMaxItems()) {
+            fetched = announcementMapper.findFeed(userId, after, size + 1);
+        }
+        return CursorPage.of(withPendingViews(fetched), size, AnnouncementService::feedCursor);
+    }
+
+    // 피드 커서: 중요 공지는 -ID, 일반 공지는 ID (AnnouncementMapper.findFeed와 같은 순서)
+    private static Long feedCursor(Announcement announcement) {
+        return Boolean.TRUE.equals(announcement.getIsImportant())
+                ? -announcement.getAnnouncementId()
+                : announcement.getAnnouncementId();
+    }
+
+    private static boolean isAfterFeedCursor(Announcement announcement, long after) {
+        boolean important = Boolean.TRUE.equals(announcement.getIsImportant());
+        long id = announcement.getAnnouncementId();
+        if (after < 0) {
+            return !important || id < -after;
+        }
+        return !important && id < after;
     }
 
     public Optional<Announcement> getAnnouncementById(Long announcementId) {
         Optional<Announcement> announcement = announcementMapper.findById(announcementId);
         if (announcement.isPresent()) {
-            announcementMapper.incrementViewCount(announcementId);
+            // 조회수는 메모리에 누적 후 주기적으로 반영 (AnnouncementViewCounter)
+            viewCounter.increment(announcementId);
+            withPendingViews(announcement.get());
         }
         return announcement;
     }
 
     public List<Announcement> getAnnouncementsByCourseId(Long courseId) {
-        return announcementMapper.findByCourseId(courseId);
+        return withPendingViews(announcementMapper.findByCourseId(courseId));
     }
 
     public List<Announcement> getAnnouncementsByAuthorId(Long authorId) {
-        return announcementMapper.findByAuthorId(authorId);
+        return withPendingViews(announcementMapper.findByAuthorId(authorId));
     }
 
     public List<Announcement> getAnnouncementsByTargetRole(String targetRole) {
-        return announcementMapper.findByTargetRole(targetRole);
+        return withPendingViews(announcementMapper.findByTargetRole(targetRole));
     }
 
     public List<Announcement> getImportantAnnouncements() {
-        return announcementMapper.findImportant();
+        return withPendingViews(announcementMapper.findImportant());
     }
 
     @Transactional
     public Announcement createAnnouncement(Long authorId, Long courseId, String title, String content,
                                           Boolean isImportant, String targetRole) {
-        // 작성자 확인
-        Optional<User> authorOpt = userMapper.findById(authorId);
-        if (authorOpt.isEmpty()) {
-            throw new RuntimeException("작성자 정보를 찾을 수 없습니다.");
-        }
-
-        // 강의 확인 (courseId가 null이 아닌 경우)
-        if (courseId != null) {
-            Optional<Course> courseOpt = courseMapper.findById(courseId);
-            if (courseOpt.isEmpty()) {
-                throw new RuntimeException("강의 정보를 찾을 수 없습니다.");
-            }
-        }
-
         Announcement announcement = Announcement.builder()
                 .authorId(authorId)
                 .courseId(courseId)
@@ -76,26 +109,30 @@ public class AnnouncementService {
                 .viewCount(0)
                 .build();
 
-        announcementMapper.insertAnnouncement(announcement);
-        return announcementMapper.findById(announcement.getAnnouncementId()).orElseThrow();
+        // 작성자/강의 존재 여부는 외래 키로 확인 (전체 공지는 강의 없음)
+        Announcement created = ConstraintViolationTranslator.translate(() -> announcementMapper.insertAnnouncement(announcement));
+        feedCache.invalidateAll();
+        broadcaster.publish(AnnouncementBroadcaster.CREATED, created);
+        return created;
     }
 
     @Transactional
     public Announcement updateAnnouncement(Long announcementId, String title, String content,
                                            Boolean isImportant, String targetRole) {
-        Optional<Announcement> announcementOpt = announcementMapper.findById(announcementId);
-        if (announcementOpt.isEmpty()) {
-            throw new RuntimeException("공지사항을 찾을 수 없습니다.");
-        }
-
-        Announcement announcement = announcementOpt.get();
-        announcement.setTitle(title != null ? title : announcement.getTitle());
-        announcement.setContent(content != null ? content : announcement.getContent());
-        announcement.setIsImportant(isImportant != null ? isImportant : announcement.getIsImportant());
-        announcement.setTargetRole(targetRole != null ? targetRole : announcement.getTargetRole());
+        // 입력하지 않은 항목(null)은 기존 값 유지
+        Announcement changes = Announcement.builder()
+                .announcementId(announcementId)
+                .title(title)
+                .content(content)
+                .isImportant(isImportant)
+                .targetRole(targetRole)
+                .build();
 
-        announcementMapper.updateAnnouncement(announcement);
-        return announcementMapper.findById(announcementId).orElseThrow();
+        Announcement updated = announcementMapper.updateAnnouncement(changes)
+                .orElseThrow(() -> new RuntimeException("공지사항을 찾을 수 없습니다."));
+        feedCache.invalidateAll();
+        broadcaster.publish(AnnouncementBroadcaster.UPDATED, updated);
+        return updated;
     }
 
     @Transactional
@@ -105,5 +142,22 @@ public class AnnouncementService {
             throw new RuntimeException("공지사항을 찾을 수 없습니다.");
         }
         announcementMapper.deleteAnnouncement(announcementId);
+        feedCache.invalidateAll();
+        viewCounter.discard(announcementId);
+    }
+
+    // DB 조회수 + 아직 반영되지 않은 조회수
+    private Announcement withPendingViews(Announcement announcement) {
+        long pendingViews = viewCounter.pendingViews(announcement.getAnnouncementId());
+        if (pendingViews > 0) {
+            int viewCount = announcement.getViewCount() != null ? announcement.getViewCount() : 0;
+            announcement.setViewCount((int) Math.min(Integer.MAX_VALUE, viewCount + pendingViews));
+        }
+        return announcement;
+    }
+
+    private List<Announcement> withPendingViews(List<Announcement> announcements) {
+        announcements.forEach(this::withPendingViews);
+        return announcements;
     }
 }
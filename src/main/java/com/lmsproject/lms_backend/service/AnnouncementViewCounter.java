@@ -0,0 +1,78 @@
+package com.lmsproject.lms_backend.service;
+
+import com.lmsproject.lms_backend.mapper.AnnouncementMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공지사항 조회수 지연 반영 (write-behind)
+ * 조회할 때마다 UPDATE하지 않고 메모리에 누적한 뒤, 주기적으로 한 번의 UPDATE로 반영합니다.
+ * 반영 전 조회수는 pendingViews로 DB 값에 더해서 보여줍니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AnnouncementViewCounter {
+
+    private final AnnouncementMapper announcementMapper;
+
+    // 공지사항 ID → 아직 반영하지 않은 조회수 (엔트리는 삭제 시에만 제거하여 증가분 유실 방지)
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void increment(Long announcementId) {
+        pending.computeIfAbsent(announcementId, id -> new LongAdder()).increment();
+    }
+
+    public long pendingViews(Long announcementId) {
+        LongAdder views = pending.get(announcementId);
+        return views != null ? views.sum() : 0;
+    }
+
+    public void discard(Long announcementId) {
+        pending.remove(announcementId);
+    }
+
+    @Scheduled(fixedDelayString = "${announcement.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        // 공지사항 ID 순서로 반영 (여러 서버가 동시에 반영해도 교착 상태 방지)
+        Map<Long, Long> viewsById = new TreeMap<>();
+        pending.forEach((id, views) -> {
+            long sum = views.sum();
+            if (sum > 0) {
+                viewsById.put(id, sum);
+            }
+        });
+        if (viewsById.isEmpty()) {
+            return;
+        }
+
+        try {
+            announcementMapper.addViewCounts(viewsById);
+        } catch (Exception e) {
+            // 반영에 실패하면 누적값을 그대로 두고 다음 주기에 다시 시도
+            log.warn("Failed to flush announcement view counts ({} announcements): {}", viewsById.size(), e.getMessage());
+            return;
+        }
+
+        // 반영한 만큼만 차감 (반영 중에 늘어난 조회수는 다음 주기에 반영)
+        viewsById.forEach((id, sum) -> {
+            LongAdder views = pending.get(id);
+            if (views != null) {
+                views.add(-sum);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
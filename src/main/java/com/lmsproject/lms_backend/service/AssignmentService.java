@@ -2,21 +2,23 @@ package com.lmsproject.lms_backend.service;
 
 import com.lmsproject.lms_backend.mapper.AssignmentMapper;
 import com.lmsproject.lms_backend.mapper.AssignmentSubmissionMapper;
-import com.lmsproject.lms_backend.mapper.CourseMapper;
 import com.lmsproject.lms_backend.mapper.EnrollmentMapper;
-import com.lmsproject.lms_backend.mapper.UserMapper;
 import com.lmsproject.lms_backend.model.Assignment;
 import com.lmsproject.lms_backend.model.AssignmentSubmission;
-import com.lmsproject.lms_backend.model.Course;
+import com.lmsproject.lms_backend.model.CursorPage;
 import com.lmsproject.lms_backend.model.Enrollment;
-import com.lmsproject.lms_backend.model.User;
+import com.lmsproject.lms_backend.util.ConstraintViolationTranslator;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -24,15 +26,19 @@ public class AssignmentService {
 
     private final AssignmentMapper assignmentMapper;
     private final AssignmentSubmissionMapper submissionMapper;
-    private final CourseMapper courseMapper;
     private final EnrollmentMapper enrollmentMapper;
-    private final UserMapper userMapper;
+    private final BlobStoreService blobStoreService;
 
     // Assignment 관련 메서드
     public List<Assignment> getAllAssignments() {
         return assignmentMapper.findAll();
     }
 
+    public CursorPage<Assignment> getAssignmentPage(Long after, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        return CursorPage.of(assignmentMapper.findPage(after, size + 1), size, Assignment::getAssignmentId);
+    }
+
     public Optional<Assignment> getAssignmentById(Long assignmentId) {
         return assignmentMapper.findById(assignmentId);
     }
@@ -48,18 +54,6 @@ public class AssignmentService {
     @Transactional
     public Assignment createAssignment(Long courseId, Long instructorId, String title, String description,
                                       LocalDateTime dueDate, Integer maxScore) {
-        // 강의 확인
-        Optional<Course> courseOpt = courseMapper.findById(courseId);
-        if (courseOpt.isEmpty()) {
-            throw new RuntimeException("강의 정보를 찾을 수 없습니다.");
-        }
-
-        // 강사 확인
-        Optional<User> instructorOpt = userMapper.findById(instructorId);
-        if (instructorOpt.isEmpty()) {
-            throw new RuntimeException("강사 정보를 찾을 수 없습니다.");
-        }
-
         Assignment assignment = Assignment.builder()
                 .courseId(courseId)
                 .instructorId(instructorId)
@@ -69,26 +63,24 @@ public class AssignmentService {
                 .maxScore(maxScore != null ? maxScore : 100)
                 .build();
 
-        assignmentMapper.insertAssignment(assignment);
-        return assignmentMapper.findById(assignment.getAssignmentId()).orElseThrow();
+        // 강의/강사 존재 여부는 외래 키로 확인
+        return ConstraintViolationTranslator.translate(() -> assignmentMapper.insertAssignment(assignment));
     }
 
     @Transactional
     public Assignment updateAssignment(Long assignmentId, String title, String description,
                                        LocalDateTime dueDate, Integer maxScore) {
-        Optional<Assignment> assignmentOpt = assignmentMapper.findById(assignmentId);
-        if (assignmentOpt.isEmpty()) {
-            throw new RuntimeException("과제를 찾을 수 없습니다.");
-        }
-
-        Assignment assignment = assignmentOpt.get();
-        assignment.setTitle(title != null ? title : assignment.getTitle());
-        assignment.setDescription(description != null ? description : assignment.getDescription());
-        assignment.setDueDate(dueDate != null ? dueDate : assignment.getDueDate());
-        assignment.setMaxScore(maxScore != null ? maxScore : assignment.getMaxScore());
+        // 입력하지 않은 항목(null)은 기존 값 유지
+        Assignment changes = Assignment.builder()
+                .assignmentId(assignmentId)
+                .title(title)
+                .description(description)
+                .dueDate(dueDate)
+                .maxScore(maxScore)
+                .build();
 
-        assignmentMapper.updateAssignment(assignment);
-        return assignmentMapper.findById(assignmentId).orElseThrow();
+        return assignmentMapper.updateAssignment(changes)
+                .orElseThrow(() -> new RuntimeException("과제를 찾을 수 없습니다."));
     }
 
     @Transactional
@@ -97,7 +89,13 @@ public class AssignmentService {
         if (assignmentOpt.isEmpty()) {
             throw new RuntimeException("과제를 찾을 수 없습니다.");
         }
+        // 제출물은 CASCADE로 함께 삭제되므로 제출 파일 참조를 먼저 반납
+        List<String> filePaths = submissionMapper.findByAssignmentId(assignmentId).stream()
+                .map(AssignmentSubmission::getFilePath)
+                .filter(BlobStoreService::isBlobPath)
+                .toList();
         assignmentMapper.deleteAssignment(assignmentId);
+        blobStoreService.releaseAll(filePaths);
     }
 
     // AssignmentSubmission 관련 메서드
@@ -105,6 +103,23 @@ public class AssignmentService {
         return submissionMapper.findAll();
     }
 
+    public CursorPage<AssignmentSubmission> getSubmissionPage(Long after, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        return CursorPage.of(submissionMapper.findPage(after, size + 1), size, AssignmentSubmission::getSubmissionId);
+    }
+
+    /**
+     * 전체 과제 제출 목록을 DB 커서로 한 건씩 읽어 전달합니다 (목록 전체를 메모리에 올리지 않음).
+     */
+    @Transactional(readOnly = true)
+    public void forEachSubmission(Consumer<AssignmentSubmission> action) {
+        try (Cursor<AssignmentSubmission> cursor = submissionMapper.streamAll()) {
+            cursor.forEach(action);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public Optional<AssignmentSubmission> getSubmissionById(Long submissionId) {
         return submissionMapper.findById(submissionId);
     }
@@ -128,12 +143,6 @@ public class AssignmentService {
     @Transactional
     public AssignmentSubmission submitAssignment(Long assignmentId, Long studentId, Long enrollmentId,
                                                  String content, String filePath, String fileName) {
-        // 과제 확인
-        Optional<Assignment> assignmentOpt = assignmentMapper.findById(assignmentId);
-        if (assignmentOpt.isEmpty()) {
-            throw new RuntimeException("과제를 찾을 수 없습니다.");
-        }
-
         // 수강신청 확인
         Optional<Enrollment> enrollmentOpt = enrollmentMapper.findById(enrollmentId);
         if (enrollmentOpt.isEmpty()) {
@@ -149,12 +158,6 @@ public class AssignmentService {
             throw new RuntimeException("승인된 수강신청에만 과제를 제출할 수 있습니다.");
         }
 
-        // 이미 제출한 과제인지 확인
-        Optional<AssignmentSubmission> existing = submissionMapper.findByAssignmentIdAndStudentId(assignmentId, studentId);
-        if (existing.isPresent()) {
-            throw new RuntimeException("이미 제출한 과제입니다.");
-        }
-
         AssignmentSubmission submission = AssignmentSubmission.builder()
                 .assignmentId(assignmentId)
                 .studentId(studentId)
@@ -165,8 +168,12 @@ public class AssignmentService {
                 .status("SUBMITTED")
                 .build();
 
-        submissionMapper.insertSubmission(submission);
-        return submissionMapper.findById(submission.getSubmissionId()).orElseThrow();
+        // 과제 존재 여부는 외래 키로, 중복 제출은 UNIQUE(assignment_id, student_id)로 확인
+        AssignmentSubmission created = ConstraintViolationTranslator
+                .translate(() -> submissionMapper.insertSubmission(submission))
+                .orElseThrow(() -> new RuntimeException("이미 제출한 과제입니다."));
+        blobStoreService.addReference(filePath);
+        return created;
     }
 
     @Transactional
@@ -177,12 +184,18 @@ public class AssignmentService {
         }
 
         AssignmentSubmission submission = submissionOpt.get();
+        String previousFilePath = submission.getFilePath();
         submission.setContent(content != null ? content : submission.getContent());
         submission.setFilePath(filePath != null ? filePath : submission.getFilePath());
         submission.setFileName(fileName != null ? fileName : submission.getFileName());
 
-        submissionMapper.updateSubmission(submission);
-        return submissionMapper.findById(submissionId).orElseThrow();
+        AssignmentSubmission updated = submissionMapper.updateSubmission(submission)
+                .orElseThrow(() -> new RuntimeException("제출물을 찾을 수 없습니다."));
+        if (filePath != null && !filePath.equals(previousFilePath)) {
+            blobStoreService.addReference(filePath);
+            blobStoreService.release(previousFilePath);
+        }
+        return updated;
     }
 
     @Transactional
@@ -197,8 +210,8 @@ public class AssignmentService {
         submission.setFeedback(feedback);
         submission.setStatus("GRADED");
 
-        submissionMapper.updateSubmission(submission);
-        return submissionMapper.findById(submissionId).orElseThrow();
+        return submissionMapper.updateSubmission(submission)
+                .orElseThrow(() -> new RuntimeException("제출물을 찾을 수 없습니다."));
     }
 
     @Transactional
@@ -208,5 +221,6 @@ public class AssignmentService {
             throw new RuntimeException("제출물을 찾을 수 없습니다.");
         }
         submissionMapper.deleteSubmission(submissionId);
+        blobStoreService.release(submissionOpt.get().getFilePath());
     }
 }
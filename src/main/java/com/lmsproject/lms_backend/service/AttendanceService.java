@@ -1,30 +1,59 @@
 package com.lmsproject.lms_backend.service;
 
+import com.lmsproject.lms_backend.mapper.AttendanceCounterMapper;
 import com.lmsproject.lms_backend.mapper.AttendanceMapper;
 import com.lmsproject.lms_backend.mapper.EnrollmentMapper;
 import com.lmsproject.lms_backend.model.Attendance;
+import com.lmsproject.lms_backend.model.AttendanceBulkResult;
+import com.lmsproject.lms_backend.model.AttendanceStats;
+import com.lmsproject.lms_backend.model.CursorPage;
 import com.lmsproject.lms_backend.model.Enrollment;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class AttendanceService {
 
     private final AttendanceMapper attendanceMapper;
+    private final AttendanceCounterMapper attendanceCounterMapper;
     private final EnrollmentMapper enrollmentMapper;
 
     public List<Attendance> getAllAttendance() {
         return attendanceMapper.findAll();
     }
 
+    public CursorPage<Attendance> getAttendancePage(Long after, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        return CursorPage.of(attendanceMapper.findPage(after, size + 1), size, Attendance::getAttendanceId);
+    }
+
+    /**
+     * 전체 출석 목록을 DB 커서로 한 건씩 읽어 전달합니다 (목록 전체를 메모리에 올리지 않음).
+     */
+    @Transactional(readOnly = true)
+    public void forEachAttendance(Consumer<Attendance> action) {
+        try (Cursor<Attendance> cursor = attendanceMapper.streamAll()) {
+            cursor.forEach(action);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public Optional<Attendance> getAttendanceById(Long attendanceId) {
         return attendanceMapper.findById(attendanceId);
     }
@@ -42,13 +71,28 @@ public class AttendanceService {
     }
 
     public BigDecimal calculateAttendanceRate(Long enrollmentId) {
-        int totalClasses = attendanceMapper.countByEnrollmentId(enrollmentId);
+        return attendanceCounterMapper.findByEnrollmentId(enrollmentId)
+                .map(AttendanceService::attendanceRate)
+                .orElse(BigDecimal.valueOf(100.00));
+    }
+
+    /**
+     * 강의 수강생 전체의 출석 집계와 출석률 (한 번의 조회)
+     */
+    public List<AttendanceStats> getCourseAttendanceStats(Long courseId) {
+        List<AttendanceStats> stats = attendanceCounterMapper.findByCourseId(courseId);
+        stats.forEach(s -> s.setAttendanceRate(attendanceRate(s)));
+        return stats;
+    }
+
+    // 출석률 = (출석 + 공결) / 전체 수업 수, 기록이 없으면 100%
+    private static BigDecimal attendanceRate(AttendanceStats stats) {
+        int totalClasses = stats.getTotalCount();
         if (totalClasses == 0) {
             return BigDecimal.valueOf(100.00);
         }
 
-        int presentCount = attendanceMapper.countByEnrollmentIdAndStatus(enrollmentId, "PRESENT") +
-                           attendanceMapper.countByEnrollmentIdAndStatus(enrollmentId, "EXCUSED");
+        int presentCount = stats.getPresentCount() + stats.getExcusedCount();
 
         BigDecimal rate = BigDecimal.valueOf(presentCount)
                 .divide(BigDecimal.valueOf(totalClasses), 4, RoundingMode.HALF_UP)
@@ -58,6 +102,42 @@ public class AttendanceService {
         return rate;
     }
 
+    /**
+     * 출석 집계 증감 반영. 이전 상태(previousStatus)는 -1, 새 상태(status)는 +1로 계산하며 null이면 생략합니다.
+     */
+    private void applyCounterDelta(Attendance attendance, String previousStatus, String status) {
+        attendanceCounterMapper.applyDelta(counterDelta(attendance, previousStatus, status));
+    }
+
+    private static AttendanceStats counterDelta(Attendance attendance, String previousStatus, String status) {
+        AttendanceStats delta = AttendanceStats.builder()
+                .enrollmentId(attendance.getEnrollmentId())
+                .courseId(attendance.getCourseId())
+                .totalCount(0)
+                .presentCount(0)
+                .lateCount(0)
+                .absentCount(0)
+                .excusedCount(0)
+                .build();
+        addStatus(delta, previousStatus, -1);
+        addStatus(delta, status, 1);
+        return delta;
+    }
+
+    private static void addStatus(AttendanceStats delta, String status, int sign) {
+        if (status == null) {
+            return;
+        }
+        delta.setTotalCount(delta.getTotalCount() + sign);
+        switch (status) {
+            case "PRESENT" -> delta.setPresentCount(delta.getPresentCount() + sign);
+            case "LATE" -> delta.setLateCount(delta.getLateCount() + sign);
+            case "ABSENT" -> delta.setAbsentCount(delta.getAbsentCount() + sign);
+            case "EXCUSED" -> delta.setExcusedCount(delta.getExcusedCount() + sign);
+            default -> throw new RuntimeException("유효하지 않은 출석 상태입니다.");
+        }
+    }
+
     @Transactional
     public Attendance createAttendance(Long enrollmentId, LocalDate attendanceDate, String status, String notes) {
         // 수강신청 정보 확인
@@ -71,12 +151,6 @@ public class AttendanceService {
             throw new RuntimeException("승인된 수강신청에만 출석을 기록할 수 있습니다.");
         }
 
-        // 같은 날짜에 이미 출석 기록이 있는지 확인
-        Optional<Attendance> existing = attendanceMapper.findByEnrollmentIdAndDate(enrollmentId, attendanceDate);
-        if (existing.isPresent()) {
-            throw new RuntimeException("해당 날짜에 이미 출석 기록이 있습니다.");
-        }
-
         if (!List.of("PRESENT", "ABSENT", "LATE", "EXCUSED").contains(status)) {
             throw new RuntimeException("유효하지 않은 출석 상태입니다.");
         }
@@ -90,13 +164,116 @@ public class AttendanceService {
                 .notes(notes)
                 .build();
 
-        attendanceMapper.insertAttendance(attendance);
-        return attendanceMapper.findById(attendance.getAttendanceId()).orElseThrow();
+        // 같은 날짜 기록은 UNIQUE(enrollment_id, attendance_date)로 확인 (이미 있으면 저장되지 않음)
+        // 같은 강의/날짜의 일괄 출석 입력과 겹치지 않도록 직렬화
+        attendanceMapper.lockCourseDate(enrollment.getCourseId(), attendanceDate);
+        Attendance created = attendanceMapper.insertAttendance(attendance)
+                .orElseThrow(() -> new RuntimeException("해당 날짜에 이미 출석 기록이 있습니다."));
+        applyCounterDelta(created, null, status);
+        return created;
+    }
+
+    /**
+     * 강의 한 회차의 출석을 일괄 기록합니다 (수강신청 ID → 출석 상태).
+     * 수강신청 확인 1회, 강의/날짜 잠금 1회, 기존 기록 조회 1회, 일괄 저장 1회, 출석 집계 반영 1회로 처리하며
+     * 저장한 행을 다시 조회하지 않고 건수 요약만 반환합니다.
+     */
+    @Transactional
+    public AttendanceBulkResult recordAttendances(Long courseId, LocalDate attendanceDate, Map<Long, String> records) {
+        if (courseId == null || attendanceDate == null) {
+            throw new RuntimeException("강의와 출석 날짜를 입력해주세요.");
+        }
+        AttendanceBulkResult result = AttendanceBulkResult.builder()
+                .courseId(courseId)
+                .attendanceDate(attendanceDate)
+                .build();
+        if (records == null || records.isEmpty()) {
+            return result;
+        }
+
+        List<Long> enrollmentIds = new ArrayList<>();
+        records.forEach((enrollmentId, status) -> {
+            if (!List.of("PRESENT", "ABSENT", "LATE", "EXCUSED").contains(status)) {
+                result.getFailures().put(enrollmentId, "유효하지 않은 출석 상태입니다.");
+            } else {
+                enrollmentIds.add(enrollmentId);
+            }
+        });
+        if (enrollmentIds.isEmpty()) {
+            return result;
+        }
+
+        // 수강신청 확인 (한 번의 조회)
+        Map<Long, Enrollment> enrollments = new HashMap<>();
+        enrollmentMapper.findByIds(enrollmentIds).forEach(e -> enrollments.put(e.getEnrollmentId(), e));
+
+        List<Long> validIds = new ArrayList<>();
+        for (Long enrollmentId : enrollmentIds) {
+            Enrollment enrollment = enrollments.get(enrollmentId);
+            if (enrollment == null) {
+                result.getFailures().put(enrollmentId, "수강신청 정보를 찾을 수 없습니다.");
+            } else if (!courseId.equals(enrollment.getCourseId())) {
+                result.getFailures().put(enrollmentId, "해당 강의의 수강신청이 아닙니다.");
+            } else if (!"APPROVED".equals(enrollment.getStatus())) {
+                result.getFailures().put(enrollmentId, "승인된 수강신청에만 출석을 기록할 수 있습니다.");
+            } else {
+                validIds.add(enrollmentId);
+            }
+        }
+        if (validIds.isEmpty()) {
+            return result;
+        }
+
+        // 같은 강의/날짜의 다른 출석 입력이 끝날 때까지 대기한 뒤 기존 기록 조회 (출석 집계 증감 계산용)
+        attendanceMapper.lockCourseDate(courseId, attendanceDate);
+        Map<Long, String> previousStatuses = new HashMap<>();
+        attendanceMapper.findByEnrollmentIdsAndDateForUpdate(validIds, attendanceDate)
+                .forEach(a -> previousStatuses.put(a.getEnrollmentId(), a.getStatus()));
+
+        List<Attendance> changes = new ArrayList<>();
+        List<AttendanceStats> deltas = new ArrayList<>();
+        int inserted = 0;
+        int updated = 0;
+        int unchanged = 0;
+        for (Long enrollmentId : validIds) {
+            Enrollment enrollment = enrollments.get(enrollmentId);
+            String status = records.get(enrollmentId);
+            String previousStatus = previousStatuses.get(enrollmentId);
+            if (status.equals(previousStatus)) {
+                unchanged++;
+                continue;
+            }
+            if (previousStatus == null) {
+                inserted++;
+            } else {
+                updated++;
+            }
+
+            Attendance attendance = Attendance.builder()
+                    .enrollmentId(enrollmentId)
+                    .studentId(enrollment.getStudentId())
+                    .courseId(enrollment.getCourseId())
+                    .attendanceDate(attendanceDate)
+                    .status(status)
+                    .build();
+            changes.add(attendance);
+            deltas.add(counterDelta(attendance, previousStatus, status));
+        }
+
+        if (!changes.isEmpty()) {
+            attendanceMapper.upsertAttendances(changes);
+            attendanceCounterMapper.applyDeltas(deltas);
+        }
+
+        result.setInserted(inserted);
+        result.setUpdated(updated);
+        result.setUnchanged(unchanged);
+        return result;
     }
 
     @Transactional
     public Attendance updateAttendance(Long attendanceId, String status, String notes) {
-        Optional<Attendance> attendanceOpt = attendanceMapper.findById(attendanceId);
+        Optional<Attendance> attendanceOpt = attendanceMapper.findByIdForUpdate(attendanceId);
         if (attendanceOpt.isEmpty()) {
             throw new RuntimeException("출석 정보를 찾을 수 없습니다.");
         }
@@ -106,19 +283,25 @@ public class AttendanceService {
         }
 
         Attendance attendance = attendanceOpt.get();
+        String previousStatus = attendance.getStatus();
         attendance.setStatus(status);
         attendance.setNotes(notes);
 
-        attendanceMapper.updateAttendance(attendance);
-        return attendanceMapper.findById(attendanceId).orElseThrow();
+        // 행은 findByIdForUpdate로 잠겨 있으므로 수정 결과가 항상 있음
+        Attendance updated = attendanceMapper.updateAttendance(attendance).orElseThrow();
+        if (!status.equals(previousStatus)) {
+            applyCounterDelta(updated, previousStatus, status);
+        }
+        return updated;
     }
 
     @Transactional
     public void deleteAttendance(Long attendanceId) {
-        Optional<Attendance> attendanceOpt = attendanceMapper.findById(attendanceId);
+        Optional<Attendance> attendanceOpt = attendanceMapper.findByIdForUpdate(attendanceId);
         if (attendanceOpt.isEmpty()) {
             throw new RuntimeException("출석 정보를 찾을 수 없습니다.");
         }
         attendanceMapper.deleteAttendance(attendanceId);
+        applyCounterDelta(attendanceOpt.get(), attendanceOpt.get().getStatus(), null);
     }
 }
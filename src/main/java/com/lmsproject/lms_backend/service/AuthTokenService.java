@@ -0,0 +1,163 @@
+package com.lmsproject.lms_backend.service;
+
+import com.lmsproject.lms_backend.mapper.RefreshTokenMapper;
+import com.lmsproject.lms_backend.mapper.UserMapper;
+import com.lmsproject.lms_backend.model.LoginResponse;
+import com.lmsproject.lms_backend.model.RefreshToken;
+import com.lmsproject.lms_backend.model.User;
+import com.lmsproject.lms_backend.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 액세스 토큰/리프레시 토큰 발급
+ * 액세스 토큰은 짧게 발급하고, 리프레시 토큰은 사용할 때마다 새 토큰으로 교체합니다.
+ * 이미 교체된 리프레시 토큰이 다시 사용되면 탈취된 것으로 보고 같은 로그인에서 발급된 토큰을 모두 폐기합니다.
+ * (폐기 결과가 예외와 함께 롤백되지 않도록 트랜잭션을 사용하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final JwtUtil jwtUtil;
+    private final RefreshTokenMapper refreshTokenMapper;
+    private final UserMapper userMapper;
+    private final TokenRevocationService revocationService;
+
+    @Value("${jwt.refresh-expiration:1209600000}") // 14일 기본값
+    private long refreshExpiration;
+
+    /**
+     * 로그인 성공 시 새 토큰 묶음을 발급합니다.
+     */
+    public LoginResponse issue(User user) {
+        return issue(user, UUID.randomUUID().toString(), newRefreshToken());
+    }
+
+    public LoginResponse refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new RuntimeException("리프레시 토큰이 필요합니다.");
+        }
+
+        String tokenHash = sha256(refreshToken);
+        String nextToken = newRefreshToken();
+        Optional<RefreshToken> rotated = refreshTokenMapper.rotate(tokenHash, sha256(nextToken));
+        if (rotated.isEmpty()) {
+            refreshTokenMapper.findByHash(tokenHash)
+                    .filter(token -> token.getReplacedBy() != null)
+                    .ifPresent(token -> {
+                        log.warn("Refresh token reuse detected: userId={}, family={}", token.getUserId(), token.getFamilyId());
+                        revokeFamily(token.getFamilyId());
+                    });
+            throw new RuntimeException("다시 로그인해주세요.");
+        }
+
+        RefreshToken current = rotated.get();
+        User user = userMapper.findById(current.getUserId())
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        user.setPassword(null);
+        return issue(user, current.getFamilyId(), nextToken);
+    }
+
+    /**
+     * 리프레시 토큰이 있으면 같은 로그인에서 발급된 토큰을 모두 폐기하고, 현재 액세스 토큰도 폐기합니다.
+     */
+    public void logout(String refreshToken, String accessTokenId, Long userId, Long accessExpiresAtMillis) {
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenMapper.findByHash(sha256(refreshToken))
+                    .ifPresent(token -> revokeFamily(token.getFamilyId()));
+        }
+        if (accessTokenId != null && accessExpiresAtMillis != null) {
+            revocationService.revoke(accessTokenId, userId, accessExpiresAtMillis);
+        }
+    }
+
+    /**
+     * 사용자의 모든 토큰 폐기 (계정 정지 등)
+     */
+    public void revokeAllForUser(Long userId) {
+        refreshTokenMapper.revokeAccessTokensOfUser(userId);
+        refreshTokenMapper.revokeByUserId(userId);
+        revocationService.sync();
+    }
+
+    /**
+     * 재발급할 때마다 행이 추가되므로 만료된 리프레시 토큰을 주기적으로 삭제합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        int deleted = refreshTokenMapper.deleteExpired();
+        if (deleted > 0) {
+            log.debug("Deleted {} expired refresh tokens", deleted);
+        }
+    }
+
+    private void revokeFamily(String familyId) {
+        refreshTokenMapper.revokeAccessTokensOfFamily(familyId);
+        refreshTokenMapper.revokeFamily(familyId);
+        revocationService.sync();
+    }
+
+    private LoginResponse issue(User user, String familyId, String refreshToken) {
+        long now = System.currentTimeMillis();
+        long accessExpiresAt = now + jwtUtil.getExpirationMillis();
+        String accessTokenId = UUID.randomUUID().toString();
+        String accessToken = jwtUtil.generateToken(user.getUserId(), user.getUsername(), user.getRole(),
+                accessTokenId, new Date(accessExpiresAt));
+
+        // 리프레시 토큰 만료는 교체할 때마다 연장
+        refreshTokenMapper.insertToken(RefreshToken.builder()
+                .tokenHash(sha256(refreshToken))
+                .userId(user.getUserId())
+                .familyId(familyId)
+                .accessJti(accessTokenId)
+                .accessExpiresAt(toLocalDateTime(accessExpiresAt))
+                .expiresAt(toLocalDateTime(now + refreshExpiration))
+                .build());
+
+        return LoginResponse.builder()
+                .token(accessToken)
+                .refreshToken(refreshToken)
+                .expiresIn(jwtUtil.getExpirationMillis() / 1000)
+                .user(user)
+                .build();
+    }
+
+    private static String newRefreshToken() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
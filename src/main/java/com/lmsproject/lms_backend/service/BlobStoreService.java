@@ -0,0 +1,138 @@
+package com.lmsproject.lms_backend.service;
+
+import com.lmsproject.lms_backend.mapper.FileBlobMapper;
+import com.lmsproject.lms_backend.model.FileBlob;
+import com.lmsproject.lms_backend.util.FileStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 내용 주소 기반 파일 저장소 (blobs/ab/cd/<sha256>)
+ * 같은 내용의 파일은 한 번만 저장하고, 강의 자료/과제 제출이 가리키는 수를 file_blobs.ref_count로 관리합니다.
+ * 참조가 0이 된 파일은 유예 시간이 지난 뒤 정리 작업이 삭제합니다.
+ * blobs/ 밖의 경로(이전 방식으로 저장된 파일)는 참조 수 관리 대상이 아닙니다.
+ */
+@Slf4j
+@Service
+public class BlobStoreService {
+
+    private static final String BLOB_PREFIX = "blobs/";
+    private static final int GC_BATCH_SIZE = 100;
+
+    private final FileBlobMapper fileBlobMapper;
+    private final FileStorage fileStorage;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${lms.storage.blob-gc-grace-seconds:3600}")
+    private long gcGraceSeconds;
+
+    public BlobStoreService(FileBlobMapper fileBlobMapper, FileStorage fileStorage,
+                            PlatformTransactionManager transactionManager) {
+        this.fileBlobMapper = fileBlobMapper;
+        this.fileStorage = fileStorage;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public static boolean isBlobPath(String storagePath) {
+        return storagePath != null && storagePath.startsWith(BLOB_PREFIX);
+    }
+
+    public static String blobPath(String sha256) {
+        return BLOB_PREFIX + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+
+    /**
+     * 임시 파일을 저장소로 옮기고 저장 경로를 반환합니다. 같은 내용이 이미 있으면 임시 파일은 삭제합니다.
+     * 정리 작업과 겹치지 않도록 행을 먼저 등록한 뒤 파일을 확인합니다.
+     * 이미 있는 행이면 유예 시간을 다시 시작하므로 연결 전에 정리되지 않으며,
+     * 정리 중인 행이면 행 잠금으로 정리가 끝날 때까지 기다린 뒤 새로 등록합니다.
+     */
+    public String store(Path tempFile, String sha256, long fileSize) {
+        String storagePath = blobPath(sha256);
+        fileBlobMapper.insertOrTouch(FileBlob.builder()
+                .sha256(sha256)
+                .fileSize(fileSize)
+                .storagePath(storagePath)
+                .build());
+
+        Path target = fileStorage.resolve(storagePath);
+        try {
+            if (Files.isRegularFile(target)) {
+                Files.deleteIfExists(tempFile);
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return storagePath;
+    }
+
+    /**
+     * 파일 참조 추가 (강의 자료/과제 제출 저장과 같은 트랜잭션에서 호출)
+     */
+    public void addReference(String storagePath) {
+        if (!isBlobPath(storagePath)) {
+            return;
+        }
+        if (fileBlobMapper.addReference(storagePath) == 0) {
+            throw new RuntimeException("파일을 찾을 수 없습니다. 다시 업로드해주세요.");
+        }
+    }
+
+    public void release(String storagePath) {
+        if (isBlobPath(storagePath)) {
+            fileBlobMapper.releaseReferences(List.of(storagePath));
+        }
+    }
+
+    public void releaseAll(Collection<String> storagePaths) {
+        List<String> blobPaths = storagePaths.stream().filter(BlobStoreService::isBlobPath).toList();
+        if (!blobPaths.isEmpty()) {
+            fileBlobMapper.releaseReferences(blobPaths);
+        }
+    }
+
+    /**
+     * 참조가 없는 파일 정리
+     * 행 삭제와 파일 삭제를 한 트랜잭션에서 처리하여, 그 사이에 같은 내용을 저장하려는 요청은 커밋 후 새로 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${lms.storage.blob-gc-interval-ms:600000}")
+    public void collectUnreferenced() {
+        int deleted;
+        do {
+            LocalDateTime before = LocalDateTime.now().minusSeconds(gcGraceSeconds);
+            List<String> storagePaths = transactionTemplate.execute(status -> {
+                List<String> paths = fileBlobMapper.deleteUnreferenced(before, GC_BATCH_SIZE);
+                paths.forEach(this::deleteFile);
+                return paths;
+            });
+            deleted = storagePaths != null ? storagePaths.size() : 0;
+            if (deleted > 0) {
+                log.info("Removed {} unreferenced blobs", deleted);
+            }
+        } while (deleted == GC_BATCH_SIZE);
+    }
+
+    private void deleteFile(String storagePath) {
+        try {
+            Files.deleteIfExists(fileStorage.resolve(storagePath));
+        } catch (IOException e) {
+            log.warn("Failed to delete blob {}: {}", storagePath, e.getMessage());
+        }
+    }
+}
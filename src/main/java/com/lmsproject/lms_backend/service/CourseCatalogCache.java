@@ -0,0 +1,100 @@
+package com.lmsproject.lms_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.lmsproject.lms_backend.mapper.CourseMapper;
+import com.lmsproject.lms_backend.model.Course;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 강의 정보 캐시 (강의 목록/상세 조회와 다른 서비스의 강의 존재 확인용)
+ * 크기와 TTL로 제한하며, 강의 생성/수정과 정원 변경 시 명시적으로 무효화합니다.
+ * 반환된 Course 객체는 캐시와 공유되므로 수정하지 않아야 합니다.
+ */
+@Component
+public class CourseCatalogCache {
+
+    private static final String ALL_COURSES = "all";
+
+    private final CourseMapper courseMapper;
+    private final Cache<Long, Course> coursesById;
+    private final Cache<String, List<Course>> courseLists;
+
+    public CourseCatalogCache(CourseMapper courseMapper,
+                              @Value("${course.cache.max-size:10000}") long maxSize,
+                              @Value("${course.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.courseMapper = courseMapper;
+        this.coursesById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.courseLists = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public Optional<Course> findById(Long courseId) {
+        // 없는 강의는 캐시하지 않음 (null 반환 시 Caffeine이 저장하지 않음)
+        return Optional.ofNullable(coursesById.get(courseId, id -> courseMapper.findById(id).orElse(null)));
+    }
+
+    public List<Course> findAll() {
+        return courseLists.get(ALL_COURSES, key -> List.copyOf(courseMapper.findAll()));
+    }
+
+    public void invalidate(Long courseId) {
+        invalidateAll(List.of(courseId));
+    }
+
+    /**
+     * 즉시 무효화하고, 트랜잭션 안이라면 커밋 후에 한 번 더 무효화합니다.
+     * (커밋 전에 다른 요청이 이전 값을 다시 캐시하는 경우 방지)
+     */
+    public void invalidateAll(Collection<Long> courseIds) {
+        evict(courseIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evict(courseIds);
+                }
+            });
+        }
+    }
+
+    private void evict(Collection<Long> courseIds) {
+        coursesById.invalidateAll(courseIds);
+        courseLists.invalidateAll();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("byId", toMap(coursesById.stats(), coursesById.estimatedSize()));
+        stats.put("list", toMap(courseLists.stats(), courseLists.estimatedSize()));
+        return stats;
+    }
+
+    private Map<String, Object> toMap(CacheStats stats, long size) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("size", size);
+        map.put("hitCount", stats.hitCount());
+        map.put("missCount", stats.missCount());
+        map.put("hitRate", stats.hitRate());
+        map.put("evictionCount", stats.evictionCount());
+        return map;
+    }
+}
@@ -1,15 +1,16 @@
 package com.lmsproject.lms_backend.service;
 
 import com.lmsproject.lms_backend.mapper.CourseMaterialMapper;
-import com.lmsproject.lms_backend.mapper.CourseMapper;
-import com.lmsproject.lms_backend.mapper.UserMapper;
-import com.lmsproject.lms_backend.model.Course;
 import com.lmsproject.lms_backend.model.CourseMaterial;
-import com.lmsproject.lms_backend.model.User;
+import com.lmsproject.lms_backend.model.CursorPage;
+import com.lmsproject.lms_backend.util.ConstraintViolationTranslator;
+import com.lmsproject.lms_backend.util.FileStorage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,13 +19,18 @@ import java.util.Optional;
 public class CourseMaterialService {
 
     private final CourseMaterialMapper materialMapper;
-    private final CourseMapper courseMapper;
-    private final UserMapper userMapper;
+    private final FileStorage fileStorage;
+    private final BlobStoreService blobStoreService;
 
     public List<CourseMaterial> getAllMaterials() {
         return materialMapper.findAll();
     }
 
+    public CursorPage<CourseMaterial> getMaterialPage(Long after, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        return CursorPage.of(materialMapper.findPage(after, size + 1), size, CourseMaterial::getMaterialId);
+    }
+
     public Optional<CourseMaterial> getMaterialById(Long materialId) {
         return materialMapper.findById(materialId);
     }
@@ -41,18 +47,6 @@ public class CourseMaterialService {
     public CourseMaterial createMaterial(Long courseId, Long uploaderId, String title, String description,
                                        String filePath, String fileName, Long fileSize, String fileType,
                                        String category) {
-        // 강의 확인
-        Optional<Course> courseOpt = courseMapper.findById(courseId);
-        if (courseOpt.isEmpty()) {
-            throw new RuntimeException("강의 정보를 찾을 수 없습니다.");
-        }
-
-        // 업로더 확인
-        Optional<User> uploaderOpt = userMapper.findById(uploaderId);
-        if (uploaderOpt.isEmpty()) {
-            throw new RuntimeException("업로더 정보를 찾을 수 없습니다.");
-        }
-
         CourseMaterial material = CourseMaterial.builder()
                 .courseId(courseId)
                 .uploaderId(uploaderId)
@@ -66,24 +60,24 @@ public class CourseMaterialService {
                 .downloadCount(0)
                 .build();
 
-        materialMapper.insertMaterial(material);
-        return materialMapper.findById(material.getMaterialId()).orElseThrow();
+        // 강의/업로더 존재 여부는 외래 키로 확인
+        CourseMaterial created = ConstraintViolationTranslator.translate(() -> materialMapper.insertMaterial(material));
+        blobStoreService.addReference(filePath);
+        return created;
     }
 
     @Transactional
     public CourseMaterial updateMaterial(Long materialId, String title, String description, String category) {
-        Optional<CourseMaterial> materialOpt = materialMapper.findById(materialId);
-        if (materialOpt.isEmpty()) {
-            throw new RuntimeException("강의 자료를 찾을 수 없습니다.");
-        }
-
-        CourseMaterial material = materialOpt.get();
-        material.setTitle(title != null ? title : material.getTitle());
-        material.setDescription(description != null ? description : material.getDescription());
-        material.setCategory(category != null ? category : material.getCategory());
+        // 입력하지 않은 항목(null)은 기존 값 유지
+        CourseMaterial changes = CourseMaterial.builder()
+                .materialId(materialId)
+                .title(title)
+                .description(description)
+                .category(category)
+                .build();
 
-        materialMapper.updateMaterial(material);
-        return materialMapper.findById(materialId).orElseThrow();
+        return materialMapper.updateMaterial(changes)
+                .orElseThrow(() -> new RuntimeException("강의 자료를 찾을 수 없습니다."));
     }
 
     @Transactional
@@ -93,6 +87,18 @@ public class CourseMaterialService {
             throw new RuntimeException("강의 자료를 찾을 수 없습니다.");
         }
         materialMapper.deleteMaterial(materialId);
+        blobStoreService.release(materialOpt.get().getFilePath());
+    }
+
+    /**
+     * 강의 자료 파일의 실제 경로 (저장소 밖의 경로나 없는 파일이면 예외)
+     */
+    public Path getMaterialFile(CourseMaterial material) {
+        Path file = fileStorage.resolve(material.getFilePath());
+        if (!Files.isRegularFile(file)) {
+            throw new RuntimeException("파일을 찾을 수 없습니다.");
+        }
+        return file;
     }
 
     @Transactional
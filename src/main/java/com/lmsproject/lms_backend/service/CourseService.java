@@ -2,10 +2,12 @@ package com.lmsproject.lms_backend.service;
 
 import com.lmsproject.lms_backend.mapper.CourseMapper;
 import com.lmsproject.lms_backend.model.Course;
+import com.lmsproject.lms_backend.model.CursorPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -13,13 +15,19 @@ import java.util.Optional;
 public class CourseService {
     
     private final CourseMapper courseMapper;
+    private final CourseCatalogCache courseCatalogCache;
     
     public List<Course> getAllCourses() {
-        return courseMapper.findAll();
+        return courseCatalogCache.findAll();
+    }
+
+    public CursorPage<Course> getCoursePage(Long after, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        return CursorPage.of(courseMapper.findPage(after, size + 1), size, Course::getCourseId);
     }
     
     public Optional<Course> getCourseById(Long courseId) {
-        return courseMapper.findById(courseId);
+        return courseCatalogCache.findById(courseId);
     }
     
     public List<Course> getCoursesByInstructor(Long instructorId) {
@@ -33,11 +41,17 @@ public class CourseService {
             course.setCredits(3);
         }
         courseMapper.insertCourse(course);
+        courseCatalogCache.invalidate(course.getCourseId());
         return course;
     }
     
     public Course updateCourse(Course course) {
         courseMapper.updateCourse(course);
+        courseCatalogCache.invalidate(course.getCourseId());
         return course;
     }
+    
+    public Map<String, Object> getCacheStats() {
+        return courseCatalogCache.getStats();
+    }
 }
@@ -0,0 +1,205 @@
+package com.lmsproject.lms_backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.lmsproject.lms_backend.mapper.CreditLedgerMapper;
+import com.lmsproject.lms_backend.model.Enrollment;
+import com.lmsproject.lms_backend.model.SemesterCredits;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 학생별 학기 신청 학점 원장.
+ * 수강신청/승인/반려/취소 시 변경분만 반영하고, 조회는 캐시에서 처리합니다 (write-through).
+ * 학기 구분은 기존과 같이 1월~6월은 1학기, 7월~12월은 2학기로 가정합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CreditLedgerService {
+
+    public static final int MAX_SEMESTER_CREDITS = 18;
+
+    private final CreditLedgerMapper creditLedgerMapper;
+
+    private final Cache<String, SemesterCredits> cache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterAccess(Duration.ofHours(1))
+            .build();
+
+    public static String semesterOf(LocalDateTime dateTime) {
+        return dateTime.getYear() + "-" + (dateTime.getMonthValue() <= 6 ? 1 : 2);
+    }
+
+    /**
+     * 현재 학기 신청 학점 (대기중 + 승인된 강의)
+     */
+    public int getCurrentSemesterCredits(Long studentId) {
+        return getLedger(studentId, semesterOf(LocalDateTime.now())).getTotalCredits();
+    }
+
+    /**
+     * 현재 학기에 학점을 추가로 신청합니다. 18학점을 초과하면 예외를 던집니다.
+     * 확인과 증가가 하나의 UPDATE로 처리되므로 동시 신청에도 한도를 넘지 않습니다.
+     */
+    public void reservePendingCredits(Long studentId, int credits) {
+        String semester = semesterOf(LocalDateTime.now());
+        SemesterCredits current = getLedger(studentId, semester);
+
+        SemesterCredits updated = creditLedgerMapper.reservePendingCredits(studentId, semester, credits, MAX_SEMESTER_CREDITS);
+        if (updated == null) {
+            throw new RuntimeException(
+                    String.format("한 학기 최대 18학점까지 신청 가능합니다. 현재 신청 학점: %d학점, 신청할 강의: %d학점",
+                            current.getTotalCredits(), credits)
+            );
+        }
+        writeThrough(updated);
+    }
+
+    public void onApproved(Enrollment enrollment) {
+        adjust(enrollment, -credits(enrollment), credits(enrollment));
+    }
+
+    public void onRejected(Enrollment enrollment) {
+        adjust(enrollment, -credits(enrollment), 0);
+    }
+
+    /**
+     * 취소 전 상태(PENDING 또는 APPROVED)에 따라 해당 학점을 차감합니다.
+     */
+    public void onCancelled(Enrollment enrollment, String previousStatus) {
+        if ("APPROVED".equals(previousStatus)) {
+            adjust(enrollment, 0, -credits(enrollment));
+        } else if ("PENDING".equals(previousStatus)) {
+            adjust(enrollment, -credits(enrollment), 0);
+        }
+    }
+
+    /**
+     * 일괄 승인/반려 전에 호출하여 대상 (학생, 학기)의 원장을 한 번에 준비합니다.
+     * 원장 생성 시 기존 수강신청을 합산하므로 수강신청 상태를 바꾸기 전에 호출해야 합니다.
+     */
+    public void prepare(Collection<Enrollment> enrollments) {
+        List<SemesterCredits> ledgers = aggregate(enrollments, 0, 0);
+        if (!ledgers.isEmpty()) {
+            creditLedgerMapper.initializeMissing(ledgers);
+        }
+    }
+
+    public void onApprovedBatch(Collection<Enrollment> enrollments) {
+        adjustBatch(aggregate(enrollments, -1, 1));
+    }
+
+    public void onRejectedBatch(Collection<Enrollment> enrollments) {
+        adjustBatch(aggregate(enrollments, -1, 0));
+    }
+
+    /**
+     * 저장되지 않은 신청(동시에 같은 신청이 먼저 저장됨)의 대기 학점을 한 번에 되돌립니다.
+     */
+    public void releasePendingBatch(Collection<Enrollment> enrollments) {
+        adjustBatch(aggregate(enrollments, -1, 0));
+    }
+
+    private void adjustBatch(List<SemesterCredits> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        creditLedgerMapper.adjustCreditsBatch(deltas).forEach(this::writeThrough);
+    }
+
+    /**
+     * (학생, 학기)별 증감량 합계. pendingSign/approvedSign은 학점에 곱할 부호입니다.
+     */
+    private static List<SemesterCredits> aggregate(Collection<Enrollment> enrollments, int pendingSign, int approvedSign) {
+        Map<String, SemesterCredits> deltas = new LinkedHashMap<>();
+        for (Enrollment enrollment : enrollments) {
+            String semester = semesterOf(enrollment);
+            SemesterCredits delta = deltas.computeIfAbsent(key(enrollment.getStudentId(), semester),
+                    k -> SemesterCredits.builder()
+                            .studentId(enrollment.getStudentId())
+                            .semester(semester)
+                            .pendingCredits(0)
+                            .approvedCredits(0)
+                            .build());
+            delta.setPendingCredits(delta.getPendingCredits() + pendingSign * credits(enrollment));
+            delta.setApprovedCredits(delta.getApprovedCredits() + approvedSign * credits(enrollment));
+        }
+        return new ArrayList<>(deltas.values());
+    }
+
+    private void adjust(Enrollment enrollment, int pendingDelta, int approvedDelta) {
+        Long studentId = enrollment.getStudentId();
+        String semester = semesterOf(enrollment);
+
+        SemesterCredits updated = creditLedgerMapper.adjustCredits(studentId, semester, pendingDelta, approvedDelta);
+        if (updated == null) {
+            // 원장이 아직 없는 학기: 수강신청 상태가 이미 반영된 뒤이므로 합산 결과가 곧 최신 값
+            cache.invalidate(key(studentId, semester));
+            writeThrough(getLedger(studentId, semester));
+            return;
+        }
+        writeThrough(updated);
+    }
+
+    /**
+     * 캐시에 없으면 DB에서 읽고, 원장이 없으면 기존 수강신청을 합산하여 만듭니다.
+     * 트랜잭션 안에서 읽은 값은 커밋되지 않은 변경을 포함할 수 있으므로 롤백되면 캐시에서 버립니다.
+     */
+    private SemesterCredits getLedger(Long studentId, String semester) {
+        return cache.get(key(studentId, semester), k -> {
+            SemesterCredits ledger = creditLedgerMapper.findByStudentIdAndSemester(studentId, semester)
+                    .orElseGet(() -> {
+                        int year = Integer.parseInt(semester.substring(0, 4));
+                        LocalDateTime from = LocalDateTime.of(year, semester.endsWith("-1") ? 1 : 7, 1, 0, 0);
+                        creditLedgerMapper.initializeFromEnrollments(studentId, semester, from, from.plusMonths(6));
+                        return creditLedgerMapper.findByStudentIdAndSemester(studentId, semester).orElseThrow();
+                    });
+            invalidateOnRollback(k);
+            return ledger;
+        });
+    }
+
+    private void writeThrough(SemesterCredits ledger) {
+        String key = key(ledger.getStudentId(), ledger.getSemester());
+        cache.put(key, ledger);
+        invalidateOnRollback(key);
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 캐시에 반영한 값도 버림
+     */
+    private void invalidateOnRollback(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        cache.invalidate(key);
+                    }
+                }
+            });
+        }
+    }
+
+    private static String semesterOf(Enrollment enrollment) {
+        return semesterOf(enrollment.getAppliedAt() != null ? enrollment.getAppliedAt() : LocalDateTime.now());
+    }
+
+    private static int credits(Enrollment enrollment) {
+        return enrollment.getCredits() != null ? enrollment.getCredits() : 0;
+    }
+
+    private static String key(Long studentId, String semester) {
+        return studentId + ":" + semester;
+    }
+}
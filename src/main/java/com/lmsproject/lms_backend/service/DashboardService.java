@@ -0,0 +1,126 @@
+package com.lmsproject.lms_backend.service;
+
+import com.lmsproject.lms_backend.model.Announcement;
+import com.lmsproject.lms_backend.model.AssignmentSubmission;
+import com.lmsproject.lms_backend.model.Attendance;
+import com.lmsproject.lms_backend.model.Dashboard;
+import com.lmsproject.lms_backend.model.Enrollment;
+import com.lmsproject.lms_backend.model.Grade;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 학생 메인 화면 정보 (수강신청, 성적, 출석, 과제 제출, 공지사항)
+ * 각 항목을 제한된 크기의 스레드 풀에서 동시에 조회하고, 항목별 제한 시간을 넘기거나 실패한 항목은 비워둔 채
+ * 나머지 결과만 반환합니다. (실패한 항목은 failures에 사유 기록)
+ * 스레드 수가 동시에 쓰는 DB 커넥션 수의 상한이므로 커넥션 풀 크기보다 작게 설정합니다.
+ */
+@Slf4j
+@Service
+public class DashboardService {
+
+    private static final int ANNOUNCEMENT_LIMIT = 20;
+
+    private final EnrollmentService enrollmentService;
+    private final GradeService gradeService;
+    private final AttendanceService attendanceService;
+    private final AssignmentService assignmentService;
+    private final AnnouncementService announcementService;
+    private final ThreadPoolExecutor executor;
+    private final long branchTimeoutMs;
+
+    public DashboardService(EnrollmentService enrollmentService,
+                            GradeService gradeService,
+                            AttendanceService attendanceService,
+                            AssignmentService assignmentService,
+                            AnnouncementService announcementService,
+                            @Value("${dashboard.executor.threads:8}") int threads,
+                            @Value("${dashboard.executor.queue-capacity:200}") int queueCapacity,
+                            @Value("${dashboard.branch-timeout-ms:2000}") long branchTimeoutMs) {
+        this.enrollmentService = enrollmentService;
+        this.gradeService = gradeService;
+        this.attendanceService = attendanceService;
+        this.assignmentService = assignmentService;
+        this.announcementService = announcementService;
+        this.branchTimeoutMs = branchTimeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 큐가 가득 차면 해당 항목만 실패 처리 (요청 스레드에서 대신 실행하지 않음)
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public Dashboard getStudentDashboard(Long studentId) {
+        Dashboard dashboard = Dashboard.builder().userId(studentId).build();
+
+        CompletableFuture<List<Enrollment>> enrollments =
+                branch(dashboard, "enrollments", () -> enrollmentService.getEnrollmentsByStudent(studentId));
+        CompletableFuture<List<Grade>> grades =
+                branch(dashboard, "grades", () -> gradeService.getGradesByStudentId(studentId));
+        CompletableFuture<List<Attendance>> attendance =
+                branch(dashboard, "attendance", () -> attendanceService.getAttendanceByStudentId(studentId));
+        CompletableFuture<List<AssignmentSubmission>> submissions =
+                branch(dashboard, "submissions", () -> assignmentService.getSubmissionsByStudentId(studentId));
+        CompletableFuture<List<Announcement>> announcements =
+                branch(dashboard, "announcements", () -> announcementService.getFeed(studentId, null, ANNOUNCEMENT_LIMIT).getItems());
+
+        // 각 항목은 실패해도 null로 완료되므로 join에서 예외가 나지 않음
+        dashboard.setEnrollments(enrollments.join());
+        dashboard.setGrades(grades.join());
+        dashboard.setAttendance(attendance.join());
+        dashboard.setSubmissions(submissions.join());
+        dashboard.setAnnouncements(announcements.join());
+        return dashboard;
+    }
+
+    /**
+     * 항목 하나를 비동기로 조회합니다. 실패하거나 제한 시간을 넘기면 null로 완료하고 사유를 기록합니다.
+     * (제한 시간을 넘겨도 이미 실행 중인 쿼리는 끝날 때까지 스레드를 사용합니다)
+     */
+    private <T> CompletableFuture<T> branch(Dashboard dashboard, String name, Supplier<T> loader) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(loader, executor);
+        } catch (RuntimeException rejected) {
+            future = CompletableFuture.failedFuture(rejected);
+        }
+        return future
+                .orTimeout(branchTimeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    String reason = cause instanceof TimeoutException ? "시간 초과"
+                            : cause instanceof RejectedExecutionException ? "요청이 많아 처리하지 못했습니다."
+                            : cause.getMessage();
+                    log.warn("Dashboard branch {} failed: {}", name, reason);
+                    synchronized (dashboard) {
+                        dashboard.getFailures().put(name, reason);
+                    }
+                    return null;
+                });
+    }
+}
@@ -0,0 +1,217 @@
+package com.lmsproject.lms_backend.service;
+
+import com.lmsproject.lms_backend.model.Enrollment;
+import com.lmsproject.lms_backend.model.EnrollmentBatchResult;
+import com.lmsproject.lms_backend.model.EnrollmentTicket;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 수강신청 대기열 (학기 초 수강신청 집중 시간용)
+ * 신청을 제한된 크기의 큐에 넣고 번호표를 발급한 뒤, 고정된 수의 작업 스레드가 강의별로 묶어서 처리합니다.
+ * 큐가 가득 차면 즉시 거절하여 DB 커넥션 풀이 고갈되지 않도록 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EnrollmentRushQueue {
+
+    private final EnrollmentService enrollmentService;
+
+    @Value("${enrollment.rush.enabled:false}")
+    private boolean enabled;
+
+    @Value("${enrollment.rush.capacity:20000}")
+    private int capacity;
+
+    @Value("${enrollment.rush.workers:4}")
+    private int workers;
+
+    @Value("${enrollment.rush.batch-size:100}")
+    private int batchSize;
+
+    @Value("${enrollment.rush.ticket-ttl-seconds:600}")
+    private long ticketTtlSeconds;
+
+    private final Map<String, EnrollmentTicket> tickets = new ConcurrentHashMap<>();
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong takenCount = new AtomicLong();
+
+    private BlockingQueue<EnrollmentTicket> queue;
+    private ExecutorService workerPool;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(capacity);
+        running = true;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "enrollment-rush-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            workerPool.submit(this::drainLoop);
+        }
+        log.info("Enrollment rush queue started: capacity={}, workers={}, batchSize={}", capacity, workers, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (workerPool == null) {
+            return;
+        }
+        // 새 신청은 받지 않고, 이미 받은 신청은 모두 처리한 뒤 종료
+        running = false;
+        workerPool.shutdown();
+        if (!workerPool.awaitTermination(30, TimeUnit.SECONDS)) {
+            workerPool.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public EnrollmentTicket submit(Long studentId, Long courseId) {
+        if (!enabled || !running) {
+            throw new RuntimeException("수강신청 대기열이 운영 중이 아닙니다.");
+        }
+
+        EnrollmentTicket ticket = EnrollmentTicket.builder()
+                .ticketId(UUID.randomUUID().toString())
+                .studentId(studentId)
+                .courseId(courseId)
+                .status("QUEUED")
+                .sequence(enqueuedCount.incrementAndGet())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        tickets.put(ticket.getTicketId(), ticket);
+        if (!queue.offer(ticket)) {
+            tickets.remove(ticket.getTicketId());
+            takenCount.incrementAndGet();
+            throw new RuntimeException("수강신청 대기 인원이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return withPosition(ticket);
+    }
+
+    public Optional<EnrollmentTicket> getTicket(String ticketId) {
+        return Optional.ofNullable(tickets.get(ticketId)).map(this::withPosition);
+    }
+
+    private EnrollmentTicket withPosition(EnrollmentTicket ticket) {
+        if (!"QUEUED".equals(ticket.getStatus())) {
+            return ticket;
+        }
+        long position = Math.max(0, ticket.getSequence() - takenCount.get() - 1);
+        return ticket.toBuilder().position(position).build();
+    }
+
+    private void drainLoop() {
+        List<EnrollmentTicket> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                EnrollmentTicket first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                takenCount.addAndGet(batch.size());
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Enrollment rush batch failed", e);
+                batch.forEach(ticket -> complete(ticket, null, "수강신청 처리 중 오류가 발생했습니다: " + e.getMessage()));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void processBatch(List<EnrollmentTicket> batch) {
+        // 강의별로 묶어서 처리
+        Map<Long, List<EnrollmentTicket>> byCourse = new LinkedHashMap<>();
+        for (EnrollmentTicket ticket : batch) {
+            byCourse.computeIfAbsent(ticket.getCourseId(), id -> new ArrayList<>()).add(ticket);
+        }
+
+        byCourse.forEach((courseId, courseTickets) -> {
+            List<Long> studentIds = courseTickets.stream().map(EnrollmentTicket::getStudentId).toList();
+            try {
+                EnrollmentBatchResult result = enrollmentService.applyEnrollments(courseId, studentIds);
+                Map<Long, Enrollment> applied = new LinkedHashMap<>();
+                result.getSucceeded().forEach(e -> applied.put(e.getStudentId(), e));
+
+                for (EnrollmentTicket ticket : courseTickets) {
+                    Enrollment enrollment = applied.remove(ticket.getStudentId());
+                    String failure = result.getFailures().get(ticket.getStudentId());
+                    if (enrollment != null) {
+                        complete(ticket, enrollment, null);
+                    } else {
+                        complete(ticket, null, failure != null ? failure : "이미 신청한 강의입니다.");
+                    }
+                }
+            } catch (Exception e) {
+                // 일괄 저장이 실패하면 (동시 신청으로 인한 중복 등) 한 건씩 다시 처리
+                log.warn("Batch apply failed for course {}, falling back to single inserts: {}", courseId, e.getMessage());
+                for (EnrollmentTicket ticket : courseTickets) {
+                    try {
+                        complete(ticket, enrollmentService.applyEnrollment(ticket.getStudentId(), courseId), null);
+                    } catch (Exception single) {
+                        complete(ticket, null, single.getMessage());
+                    }
+                }
+            }
+        });
+    }
+
+    private void complete(EnrollmentTicket ticket, Enrollment enrollment, String failure) {
+        tickets.put(ticket.getTicketId(), ticket.toBuilder()
+                .status(enrollment != null ? "COMPLETED" : "FAILED")
+                .position(null)
+                .enrollment(enrollment)
+                .message(enrollment != null ? "수강신청이 완료되었습니다." : failure)
+                .completedAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 처리가 끝난 지 오래된 번호표 정리
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredTickets() {
+        LocalDateTime threshold = LocalDateTime.now().minusSeconds(ticketTtlSeconds);
+        tickets.values().removeIf(ticket -> ticket.getCompletedAt() != null
+                && ticket.getCompletedAt().isBefore(threshold));
+    }
+}
@@ -3,13 +3,26 @@ package com.lmsproject.lms_backend.service;
 import com.lmsproject.lms_backend.mapper.CourseMapper;
 import com.lmsproject.lms_backend.mapper.EnrollmentMapper;
 import com.lmsproject.lms_backend.model.Course;
+import com.lmsproject.lms_backend.model.CursorPage;
 import com.lmsproject.lms_backend.model.Enrollment;
+import com.lmsproject.lms_backend.model.EnrollmentBatchResult;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,11 +30,33 @@ public class EnrollmentService {
 
     private final EnrollmentMapper enrollmentMapper;
     private final CourseMapper courseMapper;
+    private final CourseCatalogCache courseCatalogCache;
+    private final SeatAllocationService seatAllocationService;
+    private final CreditLedgerService creditLedgerService;
+    private final AnnouncementFeedCache announcementFeedCache;
+    private final AnnouncementBroadcaster announcementBroadcaster;
 
     public List<Enrollment> getAllEnrollments() {
         return enrollmentMapper.findAll();
     }
 
+    public CursorPage<Enrollment> getEnrollmentPage(Long after, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        return CursorPage.of(enrollmentMapper.findPage(after, size + 1), size, Enrollment::getEnrollmentId);
+    }
+
+    /**
+     * 전체 수강신청 목록을 DB 커서로 한 건씩 읽어 전달합니다 (목록 전체를 메모리에 올리지 않음).
+     */
+    @Transactional(readOnly = true)
+    public void forEachEnrollment(Consumer<Enrollment> action) {
+        try (Cursor<Enrollment> cursor = enrollmentMapper.streamAll()) {
+            cursor.forEach(action);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public Optional<Enrollment> getEnrollmentById(Long enrollmentId) {
         return enrollmentMapper.findById(enrollmentId);
     }
@@ -40,14 +75,8 @@ public class EnrollmentService {
 
     @Transactional
     public Enrollment applyEnrollment(Long studentId, Long courseId) {
-        // 이미 신청한 강의인지 확인
-        Optional<Enrollment> existing = enrollmentMapper.findByStudentIdAndCourseId(studentId, courseId);
-        if (existing.isPresent()) {
-            throw new RuntimeException("이미 신청한 강의입니다.");
-        }
-
         // 강의 정보 확인
-        Optional<Course> courseOpt = courseMapper.findById(courseId);
+        Optional<Course> courseOpt = courseCatalogCache.findById(courseId);
         if (courseOpt.isEmpty()) {
             throw new RuntimeException("강의를 찾을 수 없습니다.");
         }
@@ -60,16 +89,9 @@ public class EnrollmentService {
             throw new RuntimeException("강의 정원이 가득 찼습니다.");
         }
 
-        // 학점 확인: 현재 학기 신청 학점 + 신청할 강의 학점이 18학점을 초과하는지 확인
+        // 학점 확인: 현재 학기 신청 학점 + 신청할 강의 학점이 18학점을 초과하면 예외
         int courseCredits = course.getCredits() != null ? course.getCredits() : 3;
-        int currentSemesterCredits = calculateCurrentSemesterCredits(studentId);
-
-        if (currentSemesterCredits + courseCredits > 18) {
-            throw new RuntimeException(
-                    String.format("한 학기 최대 18학점까지 신청 가능합니다. 현재 신청 학점: %d학점, 신청할 강의: %d학점",
-                            currentSemesterCredits, courseCredits)
-            );
-        }
+        creditLedgerService.reservePendingCredits(studentId, courseCredits);
 
         // 수강신청 생성
         Enrollment enrollment = Enrollment.builder()
@@ -79,87 +101,113 @@ public class EnrollmentService {
                 .credits(courseCredits)
                 .build();
 
-        enrollmentMapper.insertEnrollment(enrollment);
-        return enrollmentMapper.findById(enrollment.getEnrollmentId()).orElse(enrollment);
+        // 중복 신청은 UNIQUE(student_id, course_id)로 확인 (이미 있으면 저장되지 않고, 예외로 학점 확보도 롤백됨)
+        return enrollmentMapper.insertEnrollment(enrollment)
+                .orElseThrow(() -> new RuntimeException("이미 신청한 강의입니다."));
     }
 
     /**
-     * 현재 학기 신청 학점 계산 (대기중 + 승인된 강의)
+     * 한 강의에 대한 여러 학생의 수강신청을 한 번에 처리 (수강신청 대기열에서 사용)
+     * 강의 조회와 중복 확인은 한 번씩만 수행하고, 통과한 신청은 한 번의 INSERT로 저장합니다. (그 사이 다른 요청이 저장한 중복은 건너뛰고 실패로 반환)
+     * 실패 사유는 학생 ID별로 반환합니다.
      */
-    private int calculateCurrentSemesterCredits(Long studentId) {
-        List<Enrollment> currentSemesterEnrollments = enrollmentMapper.findByStudentId(studentId)
+    @Transactional
+    public EnrollmentBatchResult applyEnrollments(Long courseId, List<Long> studentIds) {
+        EnrollmentBatchResult result = EnrollmentBatchResult.builder().build();
+
+        Optional<Course> courseOpt = courseCatalogCache.findById(courseId);
+        if (courseOpt.isEmpty()) {
+            studentIds.forEach(id -> result.getFailures().put(id, "강의를 찾을 수 없습니다."));
+            return result;
+        }
+
+        Course course = courseOpt.get();
+        if ("FULL".equals(course.getStatus())
+                || course.getCurrentStudents() >= course.getMaxStudents()) {
+            studentIds.forEach(id -> result.getFailures().put(id, "강의 정원이 가득 찼습니다."));
+            return result;
+        }
+
+        // 이미 신청한 학생 확인 (한 번의 조회)
+        Set<Long> alreadyApplied = enrollmentMapper.findByCourseIdAndStudentIds(courseId, studentIds)
                 .stream()
-                .filter(e -> e.getStatus().equals("PENDING") || e.getStatus().equals("APPROVED"))
-                .filter(e -> {
-                    // 현재 학기: 올해 1월~6월은 1학기, 7월~12월은 2학기로 가정
-                    java.time.LocalDateTime now = java.time.LocalDateTime.now();
-                    java.time.LocalDateTime appliedAt = e.getAppliedAt();
-                    if (appliedAt == null) {
-                        return false;
-                    }
-
-                    int currentMonth = now.getMonthValue();
-                    int appliedMonth = appliedAt.getMonthValue();
-                    int currentYear = now.getYear();
-                    int appliedYear = appliedAt.getYear();
-
-                    // 같은 연도이고 같은 학기인지 확인
-                    boolean sameSemester = false;
-                    if (currentYear == appliedYear) {
-                        if (currentMonth >= 1 && currentMonth <= 6 && appliedMonth >= 1 && appliedMonth <= 6) {
-                            sameSemester = true;
-                        } else if (currentMonth >= 7 && currentMonth <= 12 && appliedMonth >= 7 && appliedMonth <= 12) {
-                            sameSemester = true;
-                        }
-                    }
-                    return sameSemester;
-                })
-                .collect(java.util.stream.Collectors.toList());
-
-        return currentSemesterEnrollments.stream()
-                .mapToInt(e -> e.getCredits() != null ? e.getCredits() : 0)
-                .sum();
+                .map(Enrollment::getStudentId)
+                .collect(Collectors.toSet());
+
+        int courseCredits = course.getCredits() != null ? course.getCredits() : 3;
+        List<Enrollment> accepted = new ArrayList<>();
+
+        for (Long studentId : new LinkedHashSet<>(studentIds)) {
+            if (alreadyApplied.contains(studentId)) {
+                result.getFailures().put(studentId, "이미 신청한 강의입니다.");
+                continue;
+            }
+
+            try {
+                creditLedgerService.reservePendingCredits(studentId, courseCredits);
+            } catch (RuntimeException e) {
+                result.getFailures().put(studentId, e.getMessage());
+                continue;
+            }
+
+            accepted.add(Enrollment.builder()
+                    .studentId(studentId)
+                    .courseId(courseId)
+                    .courseName(course.getCourseName())
+                    .courseCode(course.getCourseCode())
+                    .status("PENDING")
+                    .credits(courseCredits)
+                    .build());
+        }
+
+        if (accepted.isEmpty()) {
+            return result;
+        }
+
+        // 조회 이후 다른 요청이 먼저 저장한 신청은 건너뛰고 저장된 행만 받음
+        List<Enrollment> inserted = enrollmentMapper.insertEnrollments(accepted);
+        Set<Long> insertedStudentIds = inserted.stream().map(Enrollment::getStudentId).collect(Collectors.toSet());
+        List<Enrollment> duplicates = new ArrayList<>();
+        for (Enrollment enrollment : accepted) {
+            if (!insertedStudentIds.contains(enrollment.getStudentId())) {
+                result.getFailures().put(enrollment.getStudentId(), "이미 신청한 강의입니다.");
+                duplicates.add(enrollment);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            creditLedgerService.releasePendingBatch(duplicates);
+        }
+        result.setSucceeded(inserted);
+        return result;
     }
 
+    /**
+     * 잠금 순서는 일괄 승인과 같이 강의 행 → 수강신청 행입니다.
+     * (순서가 다르면 같은 강의를 단건/일괄로 동시에 승인할 때 서로의 잠금을 기다리며 교착될 수 있음)
+     */
     @Transactional
     public Enrollment approveEnrollment(Long enrollmentId) {
         Optional<Enrollment> enrollmentOpt = enrollmentMapper.findById(enrollmentId);
         if (enrollmentOpt.isEmpty()) {
             throw new RuntimeException("수강신청을 찾을 수 없습니다.");
         }
-
-        Enrollment enrollment = enrollmentOpt.get();
-
-        if (!"PENDING".equals(enrollment.getStatus())) {
+        if (!"PENDING".equals(enrollmentOpt.get().getStatus())) {
             throw new RuntimeException("승인 대기 중인 신청만 승인할 수 있습니다.");
         }
 
-        // 강의 정원 확인
-        Optional<Course> courseOpt = courseMapper.findById(enrollment.getCourseId());
-        if (courseOpt.isEmpty()) {
-            throw new RuntimeException("강의를 찾을 수 없습니다.");
-        }
+        // 정원 먼저 확보 (강의 행 잠금, 정원 초과 시 예외)
+        seatAllocationService.reserveSeat(enrollmentOpt.get().getCourseId());
 
-        Course course = courseOpt.get();
-        if (course.getCurrentStudents() >= course.getMaxStudents()) {
-            throw new RuntimeException("강의 정원이 가득 찼습니다.");
-        }
-
-        // 수강신청 승인
-        enrollment.setStatus("APPROVED");
-        enrollmentMapper.updateEnrollment(enrollment);
-
-        // 강의 현재 학생 수 증가 (트리거가 있지만 확실하게 업데이트)
-        int newCurrentStudents = course.getCurrentStudents() + 1;
-        courseMapper.updateCurrentStudents(course.getCourseId(), newCurrentStudents);
+        // 대기 중인 신청만 승인하고 승인된 행을 바로 받음 (동시에 같은 신청을 승인하는 경우 한 건만 반영)
+        // 승인되지 않으면 예외로 확보한 정원도 함께 롤백됨
+        Enrollment enrollment = enrollmentMapper.approvePendingEnrollment(enrollmentId)
+                .orElseThrow(() -> new RuntimeException("승인 대기 중인 신청만 승인할 수 있습니다."));
 
-        // 정원이 가득 찼는지 확인하여 상태 업데이트
-        if (newCurrentStudents >= course.getMaxStudents()) {
-            course.setStatus("FULL");
-            courseMapper.updateCourse(course);
-        }
+        creditLedgerService.onApproved(enrollment);
+        announcementFeedCache.invalidateUser(enrollment.getStudentId());
+        announcementBroadcaster.refreshSubscriptions(List.of(enrollment.getStudentId()));
 
-        return enrollmentMapper.findById(enrollmentId).orElse(enrollment);
+        return enrollment;
     }
 
     @Transactional
@@ -175,12 +223,136 @@ public class EnrollmentService {
             throw new RuntimeException("승인 대기 중인 신청만 반려할 수 있습니다.");
         }
 
-        // 수강신청 반려
-        enrollment.setStatus("REJECTED");
-        enrollment.setRejectionReason(rejectionReason);
-        enrollmentMapper.updateEnrollment(enrollment);
+        // 대기 중인 경우에만 반려 (조회 이후 다른 요청이 먼저 승인/취소했으면 행 없음)
+        Enrollment rejected = enrollmentMapper.rejectPendingEnrollment(enrollmentId, rejectionReason)
+                .orElseThrow(() -> new RuntimeException("승인 대기 중인 신청만 반려할 수 있습니다."));
+        creditLedgerService.onRejected(rejected);
+
+        return rejected;
+    }
+
+    /**
+     * 일괄 승인. 건수와 관계없이 정해진 몇 개의 SQL로 처리합니다.
+     * (수강신청 조회, 강의 잠금, 학점 원장 준비, 승인(승인된 행 반환), 정원 반영, 학점 원장 반영)
+     * 강의별 남은 정원만큼 먼저 신청한 순서대로 승인하고, 실패 사유는 수강신청 ID별로 반환합니다.
+     */
+    @Transactional
+    public EnrollmentBatchResult approveEnrollments(List<Long> enrollmentIds) {
+        EnrollmentBatchResult result = EnrollmentBatchResult.builder().build();
+        List<Enrollment> pending = loadPending(new ArrayList<>(new LinkedHashSet<>(enrollmentIds)), result,
+                "승인 대기 중인 신청만 승인할 수 있습니다.");
+        if (pending.isEmpty()) {
+            return result;
+        }
+
+        // 강의별 남은 정원 계산 (강의 행을 잠가 동시 승인과 겹치지 않게 함)
+        List<Long> courseIds = pending.stream().map(Enrollment::getCourseId).distinct().toList();
+        Map<Long, Integer> remainingSeats = new HashMap<>();
+        for (Course course : courseMapper.findByIdsForUpdate(courseIds)) {
+            remainingSeats.put(course.getCourseId(), Math.max(0, course.getMaxStudents() - course.getCurrentStudents()));
+        }
+
+        // 신청 순서대로 정원 내에서 승인 대상 선정
+        List<Enrollment> candidates = new ArrayList<>();
+        for (Enrollment enrollment : pending) {
+            int seats = remainingSeats.getOrDefault(enrollment.getCourseId(), 0);
+            if (seats <= 0) {
+                result.getFailures().put(enrollment.getEnrollmentId(), "강의 정원이 가득 찼습니다.");
+                continue;
+            }
+            remainingSeats.put(enrollment.getCourseId(), seats - 1);
+            candidates.add(enrollment);
+        }
+        if (candidates.isEmpty()) {
+            return result;
+        }
+
+        creditLedgerService.prepare(candidates);
+        List<Enrollment> approvedRows = enrollmentMapper.approvePendingEnrollments(
+                candidates.stream().map(Enrollment::getEnrollmentId).toList());
+        Set<Long> approvedIds = approvedRows.stream().map(Enrollment::getEnrollmentId).collect(Collectors.toSet());
+
+        List<Enrollment> approved = new ArrayList<>();
+        Map<Long, Integer> seatsByCourse = new HashMap<>();
+        for (Enrollment enrollment : candidates) {
+            if (!approvedIds.contains(enrollment.getEnrollmentId())) {
+                result.getFailures().put(enrollment.getEnrollmentId(), "승인 대기 중인 신청만 승인할 수 있습니다.");
+                continue;
+            }
+            approved.add(enrollment);
+            seatsByCourse.merge(enrollment.getCourseId(), 1, Integer::sum);
+        }
+        if (approved.isEmpty()) {
+            return result;
+        }
+
+        courseMapper.addSeats(seatsByCourse);
+        courseCatalogCache.invalidateAll(new ArrayList<>(seatsByCourse.keySet()));
+        creditLedgerService.onApprovedBatch(approved);
+        List<Long> approvedStudentIds = approved.stream().map(Enrollment::getStudentId).distinct().toList();
+        announcementFeedCache.invalidateUsers(approvedStudentIds);
+        announcementBroadcaster.refreshSubscriptions(approvedStudentIds);
+        result.setSucceeded(approvedRows);
+        return result;
+    }
+
+    /**
+     * 일괄 반려. 수강신청 조회, 학점 원장 준비, 반려(반려된 행 반환), 학점 원장 반영의 4개 SQL로 처리합니다.
+     */
+    @Transactional
+    public EnrollmentBatchResult rejectEnrollments(List<Long> enrollmentIds, String rejectionReason) {
+        EnrollmentBatchResult result = EnrollmentBatchResult.builder().build();
+        List<Enrollment> pending = loadPending(new ArrayList<>(new LinkedHashSet<>(enrollmentIds)), result,
+                "승인 대기 중인 신청만 반려할 수 있습니다.");
+        if (pending.isEmpty()) {
+            return result;
+        }
 
-        return enrollmentMapper.findById(enrollmentId).orElse(enrollment);
+        creditLedgerService.prepare(pending);
+        List<Enrollment> rejectedRows = enrollmentMapper.rejectPendingEnrollments(
+                pending.stream().map(Enrollment::getEnrollmentId).toList(), rejectionReason);
+        Set<Long> rejectedIds = rejectedRows.stream().map(Enrollment::getEnrollmentId).collect(Collectors.toSet());
+
+        List<Enrollment> rejected = new ArrayList<>();
+        for (Enrollment enrollment : pending) {
+            if (rejectedIds.contains(enrollment.getEnrollmentId())) {
+                rejected.add(enrollment);
+            } else {
+                result.getFailures().put(enrollment.getEnrollmentId(), "승인 대기 중인 신청만 반려할 수 있습니다.");
+            }
+        }
+        if (rejected.isEmpty()) {
+            return result;
+        }
+
+        creditLedgerService.onRejectedBatch(rejected);
+        result.setSucceeded(rejectedRows);
+        return result;
+    }
+
+    /**
+     * 대상 수강신청을 한 번에 조회하여 대기 중인 신청만 반환하고, 나머지는 실패로 기록합니다.
+     */
+    private List<Enrollment> loadPending(List<Long> enrollmentIds, EnrollmentBatchResult result, String notPendingMessage) {
+        Map<Long, Enrollment> found = new HashMap<>();
+        if (!enrollmentIds.isEmpty()) {
+            enrollmentMapper.findByIds(enrollmentIds).forEach(e -> found.put(e.getEnrollmentId(), e));
+        }
+
+        List<Enrollment> pending = new ArrayList<>();
+        for (Long enrollmentId : enrollmentIds) {
+            Enrollment enrollment = found.get(enrollmentId);
+            if (enrollment == null) {
+                result.getFailures().put(enrollmentId, "수강신청을 찾을 수 없습니다.");
+            } else if (!"PENDING".equals(enrollment.getStatus())) {
+                result.getFailures().put(enrollmentId, notPendingMessage);
+            } else {
+                pending.add(enrollment);
+            }
+        }
+        // 먼저 신청한 순서
+        pending.sort(Comparator.comparing(Enrollment::getAppliedAt, Comparator.nullsLast(Comparator.naturalOrder())));
+        return pending;
     }
 
     @Transactional
@@ -198,26 +370,24 @@ public class EnrollmentService {
         }
 
         // 승인된 신청만 취소 가능 (대기 중인 것은 삭제)
+        // 상태 조건을 UPDATE/DELETE에 걸어 조회 이후 다른 요청이 상태를 바꿨으면 반영하지 않음
         if ("APPROVED".equals(enrollment.getStatus())) {
-            enrollment.setStatus("CANCELLED");
-            enrollmentMapper.updateEnrollment(enrollment);
-
-            // 강의 현재 학생 수 감소
-            Optional<Course> courseOpt = courseMapper.findById(enrollment.getCourseId());
-            if (courseOpt.isPresent()) {
-                Course course = courseOpt.get();
-                int newCurrentStudents = Math.max(0, course.getCurrentStudents() - 1);
-                courseMapper.updateCurrentStudents(course.getCourseId(), newCurrentStudents);
-
-                // FULL 상태에서 벗어났는지 확인하여 상태 업데이트
-                if ("FULL".equals(course.getStatus()) && newCurrentStudents < course.getMaxStudents()) {
-                    course.setStatus("OPEN");
-                    courseMapper.updateCourse(course);
-                }
-            }
+            // 강의 현재 학생 수 감소 (승인과 같은 순서로 강의 행을 먼저 잠금)
+            seatAllocationService.releaseSeat(enrollment.getCourseId());
+
+            // 취소되지 않으면 예외로 반납한 정원도 함께 롤백됨
+            enrollment = enrollmentMapper.cancelApprovedEnrollment(enrollmentId)
+                    .orElseThrow(() -> new RuntimeException("이미 처리된 수강신청입니다. 다시 확인해주세요."));
+
+            creditLedgerService.onCancelled(enrollment, "APPROVED");
+            announcementFeedCache.invalidateUser(enrollment.getStudentId());
+            announcementBroadcaster.refreshSubscriptions(List.of(enrollment.getStudentId()));
         } else if ("PENDING".equals(enrollment.getStatus())) {
             // 대기 중인 신청은 삭제
-            enrollmentMapper.deleteEnrollment(enrollmentId);
+            if (enrollmentMapper.deletePendingEnrollment(enrollmentId) == 0) {
+                throw new RuntimeException("이미 처리된 수강신청입니다. 다시 확인해주세요.");
+            }
+            creditLedgerService.onCancelled(enrollment, "PENDING");
             enrollment.setStatus("CANCELLED");
         } else {
             throw new RuntimeException("취소할 수 없는 상태입니다.");
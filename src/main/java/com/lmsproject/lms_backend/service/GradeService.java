@@ -2,14 +2,19 @@ package com.lmsproject.lms_backend.service;
 
 import com.lmsproject.lms_backend.mapper.EnrollmentMapper;
 import com.lmsproject.lms_backend.mapper.GradeMapper;
+import com.lmsproject.lms_backend.model.CursorPage;
 import com.lmsproject.lms_backend.model.Enrollment;
 import com.lmsproject.lms_backend.model.Grade;
 import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +27,23 @@ public class GradeService {
         return gradeMapper.findAll();
     }
 
+    public CursorPage<Grade> getGradePage(Long after, Integer limit) {
+        int size = CursorPage.clampLimit(limit);
+        return CursorPage.of(gradeMapper.findPage(after, size + 1), size, Grade::getGradeId);
+    }
+
+    /**
+     * 전체 성적 목록을 DB 커서로 한 건씩 읽어 전달합니다 (목록 전체를 메모리에 올리지 않음).
+     */
+    @Transactional(readOnly = true)
+    public void forEachGrade(Consumer<Grade> action) {
+        try (Cursor<Grade> cursor = gradeMapper.streamAll()) {
+            cursor.forEach(action);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public Optional<Grade> getGradeById(Long gradeId) {
         return gradeMapper.findById(gradeId);
     }
@@ -52,12 +74,6 @@ public class GradeService {
             throw new RuntimeException("승인된 수강신청에만 성적을 입력할 수 있습니다.");
         }
 
-        // 이미 성적이 있는지 확인
-        Optional<Grade> existingGrade = gradeMapper.findByEnrollmentId(enrollmentId);
-        if (existingGrade.isPresent()) {
-            throw new RuntimeException("이미 성적이 입력되어 있습니다.");
-        }
-
         Grade grade = Grade.builder()
                 .enrollmentId(enrollmentId)
                 .studentId(enrollment.getStudentId())
@@ -69,27 +85,26 @@ public class GradeService {
                 .remarks(remarks)
                 .build();
 
-        gradeMapper.insertGrade(grade);
-        return gradeMapper.findById(grade.getGradeId()).orElseThrow();
+        // 중복 입력은 UNIQUE(enrollment_id)로 확인 (이미 있으면 저장되지 않음)
+        return gradeMapper.insertGrade(grade)
+                .orElseThrow(() -> new RuntimeException("이미 성적이 입력되어 있습니다."));
     }
 
     @Transactional
     public Grade updateGrade(Long gradeId, Integer midtermScore, Integer finalScore,
                             Integer assignmentScore, Integer attendanceScore, String remarks) {
-        Optional<Grade> gradeOpt = gradeMapper.findById(gradeId);
-        if (gradeOpt.isEmpty()) {
-            throw new RuntimeException("성적 정보를 찾을 수 없습니다.");
-        }
-
-        Grade grade = gradeOpt.get();
-        grade.setMidtermScore(midtermScore != null ? midtermScore : grade.getMidtermScore());
-        grade.setFinalScore(finalScore != null ? finalScore : grade.getFinalScore());
-        grade.setAssignmentScore(assignmentScore != null ? assignmentScore : grade.getAssignmentScore());
-        grade.setAttendanceScore(attendanceScore != null ? attendanceScore : grade.getAttendanceScore());
-        grade.setRemarks(remarks != null ? remarks : grade.getRemarks());
+        // 입력하지 않은 항목(null)은 기존 값 유지
+        Grade changes = Grade.builder()
+                .gradeId(gradeId)
+                .midtermScore(midtermScore)
+                .finalScore(finalScore)
+                .assignmentScore(assignmentScore)
+                .attendanceScore(attendanceScore)
+                .remarks(remarks)
+                .build();
 
-        gradeMapper.updateGrade(grade);
-        return gradeMapper.findById(gradeId).orElseThrow();
+        return gradeMapper.updateGrade(changes)
+                .orElseThrow(() -> new RuntimeException("성적 정보를 찾을 수 없습니다."));
     }
 
     @Transactional
@@ -0,0 +1,125 @@
+package com.lmsproject.lms_backend.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 (BCrypt)
+ * 해시 계산은 CPU를 많이 쓰므로 전용 스레드 풀(기본: CPU 코어 수)에서만 실행하고,
+ * 대기 중인 요청이 queue-capacity를 넘으면 기다리지 않고 바로 거절하여 로그인이 몰려도 요청 스레드가 모두 묶이지 않게 합니다.
+ * 평문으로 저장된 이전 비밀번호도 비교할 수 있으며, 로그인 성공 시 해시로 바꿔 저장합니다. (needsUpgrade)
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    // 없는 아이디로 로그인할 때 비교할 해시 (응답 시간으로 아이디 존재 여부를 알 수 없도록 같은 강도로 생성)
+    private final String dummyHash;
+
+    public PasswordHashingService(@Value("${lms.password.bcrypt-strength:10}") int strength,
+                                  @Value("${lms.password.hash-threads:0}") int threads,
+                                  @Value("${lms.password.hash-queue-capacity:200}") int queueCapacity,
+                                  @Value("${lms.password.hash-timeout-ms:5000}") long timeoutMs) {
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.timeoutMs = timeoutMs;
+        this.dummyHash = encoder.encode(UUID.randomUUID().toString());
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public String hash(String rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * 입력한 비밀번호가 저장된 값과 일치하는지 확인합니다. (해시가 아니면 평문으로 간주하고 상수 시간 비교)
+     */
+    public boolean matches(String rawPassword, String storedPassword) {
+        if (rawPassword == null || storedPassword == null) {
+            return false;
+        }
+        if (!isHashed(storedPassword)) {
+            return MessageDigest.isEqual(rawPassword.getBytes(StandardCharsets.UTF_8),
+                    storedPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return submit(() -> encoder.matches(rawPassword, storedPassword));
+    }
+
+    /**
+     * 없는 사용자의 로그인에도 실제 비교와 같은 시간이 걸리도록 고정 해시와 비교합니다. (항상 false)
+     */
+    public boolean matchesDummy(String rawPassword) {
+        submit(() -> encoder.matches(rawPassword, dummyHash));
+        return false;
+    }
+
+    /**
+     * 평문이거나 설정된 강도보다 낮은 해시면 다시 해시해야 합니다.
+     */
+    public boolean needsUpgrade(String storedPassword) {
+        return !isHashed(storedPassword) || encoder.upgradeEncoding(storedPassword);
+    }
+
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    private static boolean isHashed(String storedPassword) {
+        return storedPassword.startsWith("$2a$") || storedPassword.startsWith("$2b$") || storedPassword.startsWith("$2y$");
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing queue is full ({} waiting)", executor.getQueue().size());
+            throw new RuntimeException("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new RuntimeException("비밀번호 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("비밀번호 확인이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("비밀번호 확인 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+}
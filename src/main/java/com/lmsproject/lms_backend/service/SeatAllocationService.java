@@ -0,0 +1,39 @@
+package com.lmsproject.lms_backend.service;
+
+import com.lmsproject.lms_backend.mapper.CourseMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 강의 정원 확보/반납.
+ * 조회 후 비교하지 않고 조건부 UPDATE 한 번으로 처리하므로 동시 승인에도 정원을 초과하지 않으며,
+ * 잠금은 해당 강의 행에만 걸려 서로 다른 강의의 승인은 서로 대기하지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SeatAllocationService {
+
+    private final CourseMapper courseMapper;
+    private final CourseCatalogCache courseCatalogCache;
+
+    /**
+     * 한 자리 확보 후 확보된 뒤의 수강 인원을 반환합니다. 정원이 가득 찼으면 예외를 던집니다.
+     */
+    public int reserveSeat(Long courseId) {
+        Integer currentStudents = courseMapper.reserveSeat(courseId);
+        courseCatalogCache.invalidate(courseId);
+        if (currentStudents == null) {
+            throw new RuntimeException("강의 정원이 가득 찼습니다.");
+        }
+        return currentStudents;
+    }
+
+    /**
+     * 한 자리 반납 후 수강 인원을 반환합니다. 강의가 없으면 -1을 반환합니다.
+     */
+    public int releaseSeat(Long courseId) {
+        Integer currentStudents = courseMapper.releaseSeat(courseId);
+        courseCatalogCache.invalidate(courseId);
+        return currentStudents != null ? currentStudents : -1;
+    }
+}
@@ -0,0 +1,96 @@
+package com.lmsproject.lms_backend.service;
+
+import com.lmsproject.lms_backend.mapper.RevokedTokenMapper;
+import com.lmsproject.lms_backend.model.RevokedToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 액세스 토큰 목록 (jti → 만료 시각)
+ * 요청마다 DB를 조회하지 않도록 메모리에 두고, 다른 서버에서 폐기한 토큰은 주기적으로 새로 추가된 것만 가져옵니다.
+ * 만료된 토큰은 서명 검증에서 이미 거절되므로 만료 시각이 지나면 목록에서 제거하여 크기를 작게 유지합니다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private final RevokedTokenMapper revokedTokenMapper;
+    private final long syncOverlapSeconds;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    // 마지막으로 가져온 폐기 시각 (null이면 전체 조회)
+    private LocalDateTime watermark;
+
+    public TokenRevocationService(RevokedTokenMapper revokedTokenMapper,
+                                  @Value("${jwt.revocation.sync-overlap-seconds:30}") long syncOverlapSeconds) {
+        this.revokedTokenMapper = revokedTokenMapper;
+        this.syncOverlapSeconds = syncOverlapSeconds;
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revoked.containsKey(tokenId);
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    public void revoke(String tokenId, Long userId, long expiresAtMillis) {
+        if (tokenId == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokenMapper.insertRevoked(RevokedToken.builder()
+                .jti(tokenId)
+                .userId(userId)
+                .expiresAt(toLocalDateTime(expiresAtMillis))
+                .build());
+        revoked.put(tokenId, expiresAtMillis);
+    }
+
+    /**
+     * 마지막 동기화 이후 폐기된 토큰을 가져옵니다.
+     * 늦게 커밋된 폐기를 놓치지 않도록 이전 시각보다 조금 앞에서부터 다시 조회합니다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:5000}")
+    public synchronized void sync() {
+        LocalDateTime since = watermark != null ? watermark.minusSeconds(syncOverlapSeconds) : null;
+        List<RevokedToken> tokens = revokedTokenMapper.findRevokedSince(since);
+        for (RevokedToken token : tokens) {
+            revoked.put(token.getJti(), toEpochMillis(token.getExpiresAt()));
+            if (watermark == null || token.getRevokedAt().isAfter(watermark)) {
+                watermark = token.getRevokedAt();
+            }
+        }
+        if (watermark == null) {
+            // 폐기된 토큰이 없으면 다음부터 전체를 다시 조회하지 않도록 현재 시각 기준으로 설정
+            watermark = LocalDateTime.now();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        int deleted = revokedTokenMapper.deleteExpired();
+        if (deleted > 0) {
+            log.debug("Deleted {} expired revoked tokens", deleted);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,289 @@
+package com.lmsproject.lms_backend.service;
+
+import com.lmsproject.lms_backend.model.AssignmentSubmission;
+import com.lmsproject.lms_backend.model.CourseMaterial;
+import com.lmsproject.lms_backend.model.UploadSession;
+import com.lmsproject.lms_backend.util.FileStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 이어받기 가능한 분할 업로드 (시작 → 조각 업로드(offset) → 완료)
+ * 조각은 메모리에 모으지 않고 바로 임시 파일에 쓰며, SHA-256은 받는 즉시 누적 계산합니다.
+ * 완료 시 임시 파일을 내용 주소 저장소(BlobStoreService)로 옮긴 뒤 강의 자료 / 과제 제출과 연결합니다.
+ * 시작할 때 해시를 보내면 완료 시 받은 내용과 비교합니다. 같은 내용의 파일이 이미 저장되어 있는지는
+ * 서버가 받은 내용으로 계산한 해시로만 판단합니다. (클라이언트가 보낸 해시만으로 기존 파일에 연결하면
+ * 내용을 갖고 있지 않은 사용자도 해시만 알면 다른 사람의 파일을 얻을 수 있음)
+ * 업로드 상태는 서버 메모리에 있으므로 같은 업로드의 요청은 같은 서버로 보내야 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadService {
+
+    private final FileStorage fileStorage;
+    private final BlobStoreService blobStoreService;
+    private final CourseMaterialService materialService;
+    private final AssignmentService assignmentService;
+
+    @Value("${lms.upload.max-file-size:1073741824}")
+    private long maxFileSize;
+
+    @Value("${lms.upload.max-chunk-size:16777216}")
+    private long maxChunkSize;
+
+    @Value("${lms.upload.session-ttl-seconds:86400}")
+    private long sessionTtlSeconds;
+
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+
+    /**
+     * 진행 중인 업로드 (조각 쓰기/완료는 업로드별로 한 번에 하나씩)
+     */
+    private static final class Upload {
+        private UploadSession session;
+        private final Path partFile;
+        private final String expectedSha256;
+        private final MessageDigest digest;
+        // synchronized 대신 사용 (파일 입출력 중 가상 스레드가 캐리어 스레드를 점유하지 않도록)
+        private final ReentrantLock lock = new ReentrantLock();
+        private String storagePath;       // 저장소로 옮긴 뒤의 경로
+
+        private Upload(UploadSession session, Path partFile, String expectedSha256) {
+            this.session = session;
+            this.partFile = partFile;
+            this.expectedSha256 = expectedSha256;
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    public UploadSession startUpload(String fileName, Long fileSize, String fileType, String sha256) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new RuntimeException("파일 이름을 입력해주세요.");
+        }
+        if (fileSize == null || fileSize <= 0) {
+            throw new RuntimeException("파일 크기가 올바르지 않습니다.");
+        }
+        if (fileSize > maxFileSize) {
+            throw new RuntimeException(String.format("파일 크기는 최대 %dMB까지 업로드할 수 있습니다.", maxFileSize / (1024 * 1024)));
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
+        String expectedSha256 = sha256 != null ? sha256.toLowerCase() : null;
+
+        Path partFile = fileStorage.resolve("uploads/" + uploadId + ".part");
+        try {
+            Files.createDirectories(partFile.getParent());
+            Files.createFile(partFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        UploadSession session = UploadSession.builder()
+                .uploadId(uploadId)
+                .fileName(fileName)
+                .fileType(fileType)
+                .fileSize(fileSize)
+                .receivedBytes(0L)
+                .status("UPLOADING")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        uploads.put(uploadId, new Upload(session, partFile, expectedSha256));
+        return session;
+    }
+
+    public Optional<UploadSession> getUpload(String uploadId) {
+        return Optional.ofNullable(uploads.get(uploadId)).map(upload -> upload.session);
+    }
+
+    /**
+     * offset 위치에 조각을 씁니다. offset은 지금까지 받은 크기와 같아야 하며,
+     * 다르면 예외 메시지의 현재 크기부터 다시 보내면 됩니다.
+     */
+    public UploadSession writeChunk(String uploadId, long offset, InputStream body) {
+        Upload upload = findUpload(uploadId);
+        upload.lock.lock();
+        try {
+            UploadSession session = upload.session;
+            if (!"UPLOADING".equals(session.getStatus())) {
+                throw new RuntimeException("이미 완료된 업로드입니다.");
+            }
+            if (offset != session.getReceivedBytes()) {
+                throw new RuntimeException(String.format("업로드 위치가 맞지 않습니다. 현재 받은 크기: %d", session.getReceivedBytes()));
+            }
+
+            long received = session.getReceivedBytes();
+            long limit = Math.min(session.getFileSize() - received, maxChunkSize);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+            try (FileChannel file = FileChannel.open(upload.partFile, StandardOpenOption.WRITE)) {
+                ReadableByteChannel in = Channels.newChannel(body);
+                long written = 0;
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    if (read == 0) {
+                        continue;
+                    }
+                    if (written + buffer.position() > limit) {
+                        throw new RuntimeException(written + buffer.position() + received > session.getFileSize()
+                                ? "선언한 파일 크기를 초과했습니다."
+                                : String.format("조각 크기는 최대 %dMB입니다.", maxChunkSize / (1024 * 1024)));
+                    }
+                    buffer.flip();
+                    ByteBuffer chunk = buffer.duplicate();
+                    while (buffer.hasRemaining()) {
+                        written += file.write(buffer, received + written);
+                    }
+                    // 파일에 다 쓴 뒤에만 해시에 반영 (쓰기 중 실패하면 이어받을 때 같은 내용을 다시 보내므로)
+                    upload.digest.update(chunk);
+                    buffer.clear();
+                    // 연결이 끊겨도 여기까지 받은 크기부터 이어서 업로드할 수 있도록 조각 중간에도 갱신
+                    upload.session = session.toBuilder()
+                            .receivedBytes(received + written)
+                            .updatedAt(LocalDateTime.now())
+                            .build();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return upload.session;
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    public CourseMaterial completeAsMaterial(String uploadId, Long courseId, Long uploaderId, String title,
+                                             String description, String category) {
+        return complete(uploadId, (session, relativePath) -> materialService.createMaterial(
+                courseId, uploaderId, title, description,
+                relativePath, session.getFileName(), session.getFileSize(), session.getFileType(), category));
+    }
+
+    public AssignmentSubmission completeAsSubmission(String uploadId, Long assignmentId, Long studentId,
+                                                     Long enrollmentId, String content) {
+        return complete(uploadId, (session, relativePath) -> assignmentService.submitAssignment(
+                assignmentId, studentId, enrollmentId, content, relativePath, session.getFileName()));
+    }
+
+    @FunctionalInterface
+    private interface Linker<T> {
+        T link(UploadSession session, String relativePath);
+    }
+
+    /**
+     * 받은 크기와 해시를 확인하고 임시 파일을 저장소로 옮긴 뒤 강의 자료 / 과제 제출과 연결합니다.
+     * 연결에 실패해도 저장된 파일은 그대로 두므로 입력값을 고쳐 다시 완료할 수 있습니다.
+     */
+    private <T> T complete(String uploadId, Linker<T> linker) {
+        Upload upload = findUpload(uploadId);
+        upload.lock.lock();
+        try {
+            UploadSession session = upload.session;
+            if (!"UPLOADING".equals(session.getStatus())) {
+                throw new RuntimeException("이미 완료된 업로드입니다.");
+            }
+            if (!session.getReceivedBytes().equals(session.getFileSize())) {
+                throw new RuntimeException(String.format("아직 업로드가 끝나지 않았습니다. (%d / %d)",
+                        session.getReceivedBytes(), session.getFileSize()));
+            }
+
+            if (upload.storagePath == null) {
+                String sha256 = HexFormat.of().formatHex(upload.digest.digest());
+                if (upload.expectedSha256 != null && !upload.expectedSha256.equals(sha256)) {
+                    // 받은 내용이 선언한 해시와 다르면 이어받을 수 없으므로 업로드를 폐기
+                    uploads.remove(uploadId);
+                    deleteQuietly(upload.partFile);
+                    throw new RuntimeException("파일 내용이 올바르지 않습니다. 처음부터 다시 업로드해주세요.");
+                }
+                upload.storagePath = blobStoreService.store(upload.partFile, sha256, session.getFileSize());
+                upload.session = session = session.toBuilder().sha256(sha256).build();
+            }
+
+            T linked = linker.link(session, upload.storagePath);
+
+            // 완료된 업로드는 상태 조회용으로 남겨두고 만료 시 정리
+            upload.session = session.toBuilder()
+                    .status("COMPLETED")
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+            return linked;
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    public void cancelUpload(String uploadId) {
+        Upload upload = uploads.remove(uploadId);
+        if (upload == null) {
+            throw new RuntimeException("업로드 정보를 찾을 수 없습니다.");
+        }
+        upload.lock.lock();
+        try {
+            deleteQuietly(upload.partFile);
+        } finally {
+            upload.lock.unlock();
+        }
+    }
+
+    /**
+     * 오랫동안 이어지지 않은 업로드와 임시 파일 정리
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void evictExpiredUploads() {
+        LocalDateTime threshold = LocalDateTime.now().minusSeconds(sessionTtlSeconds);
+        uploads.values().removeIf(upload -> {
+            if (upload.session.getUpdatedAt().isBefore(threshold)) {
+                deleteQuietly(upload.partFile);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private Upload findUpload(String uploadId) {
+        Upload upload = uploads.get(uploadId);
+        if (upload == null) {
+            throw new RuntimeException("업로드 정보를 찾을 수 없습니다.");
+        }
+        return upload;
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete upload file {}: {}", path, e.getMessage());
+        }
+    }
+}
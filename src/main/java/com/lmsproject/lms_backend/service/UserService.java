@@ -14,6 +14,7 @@ import java.util.Optional;
 public class UserService {
 
     private final UserMapper userMapper;
+    private final PasswordHashingService passwordHashingService;
 
     public Optional<User> findByUsername(String username) {
         try {
@@ -45,12 +46,6 @@ public class UserService {
             throw new RuntimeException("이름을 입력해주세요.");
         }
 
-        // 아이디 중복 확인
-        Optional<User> existingUser = userMapper.findByUsername(username);
-        if (existingUser.isPresent()) {
-            throw new RuntimeException("이미 사용 중인 아이디입니다.");
-        }
-
         // 역할 기본값 설정 (STUDENT)
         if (role == null || role.trim().isEmpty()) {
             role = "STUDENT";
@@ -61,40 +56,35 @@ public class UserService {
             throw new RuntimeException("유효하지 않은 역할입니다.");
         }
 
+        // 새 사용자 생성
+        User newUser = User.builder()
+                .username(username.trim())
+                .password(passwordHashingService.hash(password))
+                .name(name.trim())
+                .email(email != null ? email.trim() : null)
+                .role(role)
+                .build();
+
+        int result;
         try {
-            // 새 사용자 생성
-            User newUser = User.builder()
-                    .username(username.trim())
-                    .password(password)
-                    .name(name.trim())
-                    .email(email != null ? email.trim() : null)
-                    .role(role)
-                    .build();
-
-            int result = userMapper.insertUser(newUser);
-
-            if (result > 0) {
-                log.info("User registered successfully: {}", username);
-                // 비밀번호는 반환하지 않음
-                newUser.setPassword(null);
-                return newUser;
-            } else {
-                throw new RuntimeException("회원가입에 실패했습니다.");
-            }
+            // 아이디 중복은 UNIQUE(username)로 확인 (이미 있으면 저장되지 않고 0 반환)
+            result = userMapper.insertUser(newUser);
         } catch (Exception e) {
             log.error("Error during registration for user: {}", username, e);
-            if (e.getMessage().contains("duplicate") || e.getMessage().contains("unique")) {
-                throw new RuntimeException("이미 사용 중인 사용자명입니다.");
-            }
             throw new RuntimeException("회원가입 중 오류가 발생했습니다: " + e.getMessage());
         }
+        if (result == 0) {
+            throw new RuntimeException("이미 사용 중인 아이디입니다.");
+        }
+
+        log.info("User registered successfully: {}", username);
+        // 비밀번호는 반환하지 않음
+        newUser.setPassword(null);
+        return newUser;
     }
 
     public User login(String username, String password) {
-        log.info("Login attempt for username: {}", username);
-
         if (username == null || password == null) {
-            log.warn("Username or password is null");
             return null;
         }
 
@@ -102,29 +92,25 @@ public class UserService {
             Optional<User> userOpt = userMapper.findByUsername(username);
 
             if (userOpt.isEmpty()) {
-                log.warn("User not found: {}", username);
+                // 있는 아이디와 응답 시간이 같도록 비밀번호 비교 비용을 똑같이 씀
+                passwordHashingService.matchesDummy(password);
+                log.debug("Login failed, user not found: {}", username);
                 return null;
             }
 
             User user = userOpt.get();
             String dbPassword = user.getPassword();
-            boolean passwordMatch = dbPassword != null && dbPassword.equals(password);
 
-            log.info("User found: {}", user.getUsername());
-            log.info("DB password length: {}, Input password length: {}",
-                    dbPassword != null ? dbPassword.length() : 0,
-                    password != null ? password.length() : 0);
-            log.info("Password match: {}", passwordMatch);
-
-            // 실제로는 BCrypt로 암호화된 비밀번호를 비교해야 함
-            // 여기서는 간단히 평문 비교 (개발용)
-            if (passwordMatch) {
+            if (passwordHashingService.matches(password, dbPassword)) {
+                // 평문 또는 낮은 강도로 저장된 비밀번호는 해시로 교체
+                if (passwordHashingService.needsUpgrade(dbPassword)) {
+                    upgradePassword(user.getUserId(), password);
+                }
                 // 비밀번호는 반환하지 않음
                 user.setPassword(null);
-                log.info("Login successful for user: {}", username);
                 return user;
             } else {
-                log.warn("Password mismatch for user: {}", username);
+                log.debug("Login failed, password mismatch: {}", username);
                 return null;
             }
         } catch (Exception e) {
@@ -132,4 +118,13 @@ public class UserService {
             throw e;
         }
     }
+
+    // 실패해도 로그인은 계속 진행 (다음 로그인 때 다시 시도)
+    private void upgradePassword(Long userId, String rawPassword) {
+        try {
+            userMapper.updatePassword(userId, passwordHashingService.hash(rawPassword));
+        } catch (Exception e) {
+            log.warn("Failed to upgrade password hash for user {}: {}", userId, e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package com.lmsproject.lms_backend.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * 대용량 목록을 ApiResponse와 같은 형식({"success":true,"message":"성공","data":[...]})으로
+ * 한 건씩 응답에 씁니다. 목록 전체를 메모리에 올리지 않으므로 결과 크기와 관계없이 힙 사용량이 일정합니다.
+ */
+@Slf4j
+@Component
+public class ApiResponseStreamer {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter itemWriter;
+
+    public ApiResponseStreamer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        // 항목마다 flush하지 않고 생성기 버퍼가 찰 때만 내보냄
+        this.itemWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * source는 전달받은 consumer를 항목마다 호출해야 합니다 (예: GradeService::forEachGrade).
+     */
+    public <T> StreamingResponseBody stream(Consumer<Consumer<T>> source) {
+        return out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeStringField("message", "성공");
+                generator.writeArrayFieldStart("data");
+                source.accept(item -> {
+                    try {
+                        itemWriter.writeValue(generator, item);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+                generator.writeEndObject();
+            } catch (RuntimeException e) {
+                // 이미 응답을 보내기 시작했으므로 오류 응답으로 바꿀 수 없음 (클라이언트는 잘린 JSON을 받음)
+                log.error("Streaming response failed", e);
+                throw e;
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.lmsproject.lms_backend.util;
+
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * DB 제약 조건 위반(중복 23505, 외래 키 23503)을 기존 업무 오류 메시지로 변환합니다.
+ * 저장 전에 존재/중복 여부를 조회하지 않고 제약 조건에 맡기므로 한 번의 SQL로 처리되고 동시 요청에도 안전합니다.
+ * 제약 조건 이름은 complete_schema.sql에서 PostgreSQL이 자동으로 붙인 이름입니다.
+ * 위반이 발생하면 트랜잭션이 중단되므로 저장 후 같은 트랜잭션에서 다른 SQL을 실행하지 않는 곳에서만 사용합니다.
+ */
+public final class ConstraintViolationTranslator {
+
+    public static final String UNIQUE_VIOLATION = "23505";
+    public static final String FOREIGN_KEY_VIOLATION = "23503";
+
+    private static final Map<String, String> MESSAGES = Map.ofEntries(
+            Map.entry("users_username_key", "이미 사용 중인 아이디입니다."),
+            Map.entry("enrollments_student_id_course_id_key", "이미 신청한 강의입니다."),
+            Map.entry("enrollments_course_id_fkey", "강의를 찾을 수 없습니다."),
+            Map.entry("grades_enrollment_id_key", "이미 성적이 입력되어 있습니다."),
+            Map.entry("attendance_enrollment_id_attendance_date_key", "해당 날짜에 이미 출석 기록이 있습니다."),
+            Map.entry("assignment_submissions_assignment_id_student_id_key", "이미 제출한 과제입니다."),
+            Map.entry("assignment_submissions_assignment_id_fkey", "과제를 찾을 수 없습니다."),
+            Map.entry("assignments_course_id_fkey", "강의 정보를 찾을 수 없습니다."),
+            Map.entry("assignments_instructor_id_fkey", "강사 정보를 찾을 수 없습니다."),
+            Map.entry("course_materials_course_id_fkey", "강의 정보를 찾을 수 없습니다."),
+            Map.entry("course_materials_uploader_id_fkey", "업로더 정보를 찾을 수 없습니다."),
+            Map.entry("announcements_course_id_fkey", "강의 정보를 찾을 수 없습니다."),
+            Map.entry("announcements_author_id_fkey", "작성자 정보를 찾을 수 없습니다.")
+    );
+
+    private ConstraintViolationTranslator() {
+    }
+
+    /**
+     * 저장 작업을 실행하고, 알려진 제약 조건 위반이면 해당 메시지의 RuntimeException으로 바꿔 던집니다.
+     */
+    public static <T> T translate(Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e);
+        }
+    }
+
+    /**
+     * 알려진 제약 조건이면 업무 오류로, 아니면 원래 예외를 그대로 반환합니다.
+     */
+    public static RuntimeException translate(DataIntegrityViolationException e) {
+        PSQLException cause = findCause(e);
+        if (cause == null) {
+            return e;
+        }
+        String sqlState = cause.getSQLState();
+        if (!UNIQUE_VIOLATION.equals(sqlState) && !FOREIGN_KEY_VIOLATION.equals(sqlState)) {
+            return e;
+        }
+        ServerErrorMessage serverMessage = cause.getServerErrorMessage();
+        String constraint = serverMessage != null ? serverMessage.getConstraint() : null;
+        String message = constraint != null ? MESSAGES.get(constraint) : null;
+        return message != null ? new RuntimeException(message, e) : e;
+    }
+
+    private static PSQLException findCause(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PSQLException psqlException) {
+                return psqlException;
+            }
+        }
+        return null;
+    }
+}
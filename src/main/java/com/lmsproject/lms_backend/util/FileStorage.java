@@ -0,0 +1,39 @@
+package com.lmsproject.lms_backend.util;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 업로드 파일 저장소 (lms.storage.root 아래의 파일만 다룹니다)
+ * DB에 저장된 file_path는 저장소 루트 기준 상대 경로입니다.
+ */
+@Component
+public class FileStorage {
+
+    private final Path root;
+
+    public FileStorage(@Value("${lms.storage.root:./storage}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /**
+     * 상대 경로를 저장소 안의 실제 경로로 바꿉니다. 저장소 밖을 가리키면 예외를 던집니다.
+     */
+    public Path resolve(String relativePath) {
+        if (relativePath == null || relativePath.isBlank()) {
+            throw new RuntimeException("파일 경로가 없습니다.");
+        }
+        Path path = root.resolve(relativePath.replace('\\', '/')).normalize();
+        if (!path.startsWith(root)) {
+            throw new RuntimeException("잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+}
@@ -0,0 +1,21 @@
+package com.lmsproject.lms_backend.util;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 검증이 끝난 JWT 토큰의 사용자 정보
+ */
+@Getter
+@AllArgsConstructor
+public class JwtPrincipal {
+    private final Long userId;
+    private final String username;
+    private final String role;
+    private final String tokenId;   // jti (폐기 여부 확인용, 이전에 발급된 토큰은 없음)
+    private final long expiresAtMillis;
+
+    public boolean isExpired() {
+        return System.currentTimeMillis() >= expiresAtMillis;
+    }
+}
@@ -1,16 +1,25 @@
 package com.lmsproject.lms_backend.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Component
@@ -19,28 +28,104 @@ public class JwtUtil {
     @Value("${jwt.secret:lms-secret-key-for-jwt-token-generation-minimum-256-bits}")
     private String secret;
 
-    @Value("${jwt.expiration:86400000}") // 24시간 기본값
+    @Value("${jwt.expiration:900000}") // 15분 기본값 (만료 전에는 리프레시 토큰으로 재발급)
     private Long expiration;
 
+    @Value("${jwt.cache.max-size:50000}")
+    private long cacheMaxSize;
+
+    @Value("${jwt.cache.ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // 검증이 끝난 토큰의 SHA-256 → 사용자 정보 (같은 토큰은 서명 검증을 다시 하지 않음)
+    // 토큰 원문을 메모리에 오래 남기지 않도록 해시를 키로 사용 (힙 덤프 등으로 유효한 토큰이 노출되지 않게 함)
+    private Cache<String, JwtPrincipal> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(signingKey).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
     private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
+    }
+
+    /**
+     * 토큰을 한 번만 파싱/검증하여 사용자 정보를 반환합니다.
+     * 이미 검증한 토큰은 캐시에서 바로 반환하고, 유효하지 않거나 만료된 토큰은 빈 값을 반환합니다.
+     */
+    public Optional<JwtPrincipal> authenticate(String token) {
+        String cacheKey = sha256(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            if (cached.isExpired()) {
+                verifiedTokens.invalidate(cacheKey);
+                return Optional.empty();
+            }
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = extractAllClaims(token);
+            JwtPrincipal principal = new JwtPrincipal(
+                    claims.get("userId", Long.class),
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    claims.getId(),
+                    claims.getExpiration().getTime()
+            );
+            if (principal.isExpired()) {
+                return Optional.empty();
+            }
+            verifiedTokens.put(cacheKey, principal);
+            return Optional.of(principal);
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public String generateToken(Long userId, String username, String role) {
+        return generateToken(userId, username, role, null, new Date(System.currentTimeMillis() + expiration));
+    }
+
+    /**
+     * 폐기할 수 있도록 토큰 ID(jti)를 넣어 발급합니다.
+     */
+    public String generateToken(Long userId, String username, String role, String tokenId, Date expiresAt) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", userId);
         claims.put("username", username);
         claims.put("role", role);
-        return createToken(claims, username);
+        return createToken(claims, username, tokenId, expiresAt);
+    }
+
+    public long getExpirationMillis() {
+        return expiration;
     }
 
-    private String createToken(Map<String, Object> claims, String subject) {
+    private String createToken(Map<String, Object> claims, String subject, String tokenId, Date expiryDate) {
         Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
                 .claims(claims)
+                .id(tokenId)
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
@@ -72,11 +157,7 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public Boolean isTokenExpired(String token) {
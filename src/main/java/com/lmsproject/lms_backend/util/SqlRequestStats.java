@@ -0,0 +1,76 @@
+package com.lmsproject.lms_backend.util;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 단위 SQL 실행 집계 (실행 수, DB 시간 합계, statement ID별 실행 수)
+ * 현재 스레드에서 실행된 SQL만 집계합니다. (SqlMetricsInterceptor가 기록)
+ * 다른 스레드에서 실행되는 조회(메인 화면 동시 조회, 스트리밍 응답 등)는 포함되지 않습니다.
+ * 엔드포인트별 SQL 수 회귀 확인은 테스트의 SqlStatementCounter를 사용합니다.
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long dbNanos;
+    private final Map<String, Integer> countsByStatement = new LinkedHashMap<>();
+
+    private SqlRequestStats() {
+    }
+
+    public static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public void record(String statementId, long elapsedNanos) {
+        statementCount++;
+        dbNanos += elapsedNanos;
+        countsByStatement.merge(statementId, 1, Integer::sum);
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public double getDbTimeMs() {
+        return dbNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public Map<String, Integer> getCountsByStatement() {
+        return countsByStatement;
+    }
+
+    /**
+     * threshold번 이상 반복 실행된 statement (N+1 의심)
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        countsByStatement.forEach((statementId, count) -> {
+            if (count >= threshold) {
+                repeated.put(statementId, count);
+            }
+        });
+        return repeated;
+    }
+
+    /**
+     * Server-Timing 헤더 값 (브라우저 개발자 도구 Timing 탭에 표시)
+     */
+    public String toServerTiming() {
+        return String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d queries\"", getDbTimeMs(), statementCount);
+    }
+}
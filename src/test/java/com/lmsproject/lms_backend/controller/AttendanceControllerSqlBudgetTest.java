@@ -0,0 +1,100 @@
+package com.lmsproject.lms_backend.controller;
+
+import com.lmsproject.lms_backend.mapper.AttendanceCounterMapper;
+import com.lmsproject.lms_backend.mapper.AttendanceMapper;
+import com.lmsproject.lms_backend.mapper.EnrollmentMapper;
+import com.lmsproject.lms_backend.model.ApiResponse;
+import com.lmsproject.lms_backend.model.AttendanceStats;
+import com.lmsproject.lms_backend.model.Enrollment;
+import com.lmsproject.lms_backend.service.AttendanceService;
+import com.lmsproject.lms_backend.util.SqlRequestStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static com.lmsproject.lms_backend.util.SqlStatementCounter.assertAtMost;
+import static com.lmsproject.lms_backend.util.SqlStatementCounter.countingMapper;
+import static com.lmsproject.lms_backend.util.SqlStatementCounter.measure;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+/**
+ * 출석 API의 SQL 실행 수 (출석 인원과 관계없이 일정해야 함)
+ */
+class AttendanceControllerSqlBudgetTest {
+
+    private static final Long COURSE_ID = 10L;
+
+    private AttendanceMapper attendanceMapper;
+    private AttendanceCounterMapper attendanceCounterMapper;
+    private EnrollmentMapper enrollmentMapper;
+    private AttendanceController controller;
+
+    @BeforeEach
+    void setUp() {
+        attendanceMapper = countingMapper(AttendanceMapper.class);
+        attendanceCounterMapper = countingMapper(AttendanceCounterMapper.class);
+        enrollmentMapper = countingMapper(EnrollmentMapper.class);
+        controller = new AttendanceController(
+                new AttendanceService(attendanceMapper, attendanceCounterMapper, enrollmentMapper), null);
+
+        when(enrollmentMapper.findByIds(anyList())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .map(id -> Enrollment.builder()
+                            .enrollmentId(id)
+                            .studentId(id + 1000)
+                            .courseId(COURSE_ID)
+                            .status("APPROVED")
+                            .build())
+                    .toList();
+        });
+        when(attendanceMapper.findByEnrollmentIdsAndDateForUpdate(anyList(), any())).thenReturn(List.of());
+    }
+
+    @Test
+    void attendanceRateIsOneQuery() {
+        when(attendanceCounterMapper.findByEnrollmentId(anyLong())).thenReturn(Optional.of(AttendanceStats.builder()
+                .enrollmentId(1L)
+                .totalCount(10)
+                .presentCount(8)
+                .lateCount(1)
+                .absentCount(1)
+                .excusedCount(0)
+                .build()));
+
+        SqlRequestStats stats = measure(() -> assertThat(controller.getAttendanceRate(1L).isSuccess()).isTrue());
+
+        assertAtMost(stats, 1);
+    }
+
+    @Test
+    void bulkAttendanceDoesNotGrowWithClassSize() {
+        SqlRequestStats small = measure(() -> assertThat(recordAttendances(3).isSuccess()).isTrue());
+        SqlRequestStats large = measure(() -> assertThat(recordAttendances(60).isSuccess()).isTrue());
+
+        // 수강신청 확인, 강의/날짜 잠금, 기존 기록 조회, 일괄 저장, 출석 집계 반영
+        assertAtMost(small, 5);
+        assertThat(large.getStatementCount()).isEqualTo(small.getStatementCount());
+    }
+
+    private ApiResponse<?> recordAttendances(int students) {
+        Map<Long, String> records = new LinkedHashMap<>();
+        LongStream.rangeClosed(1, students).forEach(id -> records.put(id, id % 5 == 0 ? "ABSENT" : "PRESENT"));
+
+        AttendanceController.BulkAttendanceRequest request = new AttendanceController.BulkAttendanceRequest();
+        request.setCourseId(COURSE_ID);
+        request.setAttendanceDate(LocalDate.of(2026, 3, 9));
+        request.setRecords(records);
+        return controller.recordAttendances(request);
+    }
+}
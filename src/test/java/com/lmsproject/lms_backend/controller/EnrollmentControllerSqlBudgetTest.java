@@ -0,0 +1,136 @@
+package com.lmsproject.lms_backend.controller;
+
+import com.lmsproject.lms_backend.mapper.CourseMapper;
+import com.lmsproject.lms_backend.mapper.CreditLedgerMapper;
+import com.lmsproject.lms_backend.mapper.EnrollmentMapper;
+import com.lmsproject.lms_backend.model.ApiResponse;
+import com.lmsproject.lms_backend.model.Course;
+import com.lmsproject.lms_backend.model.Enrollment;
+import com.lmsproject.lms_backend.model.SemesterCredits;
+import com.lmsproject.lms_backend.service.AnnouncementBroadcaster;
+import com.lmsproject.lms_backend.service.AnnouncementFeedCache;
+import com.lmsproject.lms_backend.service.CourseCatalogCache;
+import com.lmsproject.lms_backend.service.CreditLedgerService;
+import com.lmsproject.lms_backend.service.EnrollmentService;
+import com.lmsproject.lms_backend.service.SeatAllocationService;
+import com.lmsproject.lms_backend.util.SqlRequestStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static com.lmsproject.lms_backend.util.SqlStatementCounter.assertAtMost;
+import static com.lmsproject.lms_backend.util.SqlStatementCounter.countingMapper;
+import static com.lmsproject.lms_backend.util.SqlStatementCounter.measure;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 수강신청 승인/반려 API의 SQL 실행 수 (일괄 처리는 건수와 관계없이 일정해야 함)
+ */
+class EnrollmentControllerSqlBudgetTest {
+
+    private EnrollmentMapper enrollmentMapper;
+    private CourseMapper courseMapper;
+    private CreditLedgerMapper creditLedgerMapper;
+    private EnrollmentController controller;
+
+    @BeforeEach
+    void setUp() {
+        enrollmentMapper = countingMapper(EnrollmentMapper.class);
+        courseMapper = countingMapper(CourseMapper.class);
+        creditLedgerMapper = countingMapper(CreditLedgerMapper.class);
+
+        CourseCatalogCache courseCatalogCache = new CourseCatalogCache(courseMapper, 100, 30);
+        EnrollmentService enrollmentService = new EnrollmentService(enrollmentMapper, courseMapper, courseCatalogCache,
+                new SeatAllocationService(courseMapper, courseCatalogCache),
+                new CreditLedgerService(creditLedgerMapper),
+                mock(AnnouncementFeedCache.class), mock(AnnouncementBroadcaster.class));
+        controller = new EnrollmentController(enrollmentService, null, null);
+
+        when(enrollmentMapper.findById(anyLong())).thenAnswer(invocation ->
+                Optional.of(enrollment(invocation.getArgument(0), "PENDING")));
+        when(enrollmentMapper.findByIds(anyList())).thenAnswer(invocation ->
+                enrollments(invocation.getArgument(0), "PENDING"));
+        when(enrollmentMapper.approvePendingEnrollment(anyLong())).thenAnswer(invocation ->
+                Optional.of(enrollment(invocation.getArgument(0), "APPROVED")));
+        when(enrollmentMapper.approvePendingEnrollments(anyList())).thenAnswer(invocation ->
+                enrollments(invocation.getArgument(0), "APPROVED"));
+        when(enrollmentMapper.rejectPendingEnrollment(anyLong(), anyString())).thenAnswer(invocation ->
+                Optional.of(enrollment(invocation.getArgument(0), "REJECTED")));
+
+        when(courseMapper.reserveSeat(anyLong())).thenReturn(1);
+        when(courseMapper.findByIdsForUpdate(anyList())).thenAnswer(invocation -> {
+            List<Long> courseIds = invocation.getArgument(0);
+            return courseIds.stream()
+                    .map(courseId -> Course.builder().courseId(courseId).maxStudents(1000).currentStudents(0).build())
+                    .toList();
+        });
+
+        when(creditLedgerMapper.adjustCredits(anyLong(), anyString(), anyInt(), anyInt())).thenAnswer(invocation ->
+                SemesterCredits.builder()
+                        .studentId(invocation.getArgument(0))
+                        .semester(invocation.getArgument(1))
+                        .pendingCredits(0)
+                        .approvedCredits(3)
+                        .build());
+        when(creditLedgerMapper.adjustCreditsBatch(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void approveIsConstant() {
+        SqlRequestStats stats = measure(() -> assertThat(controller.approveEnrollment(1L).isSuccess()).isTrue());
+
+        // 수강신청 조회, 정원 확보, 승인, 학점 원장 반영
+        assertAtMost(stats, 4);
+    }
+
+    @Test
+    void rejectIsConstant() {
+        SqlRequestStats stats = measure(() -> assertThat(
+                controller.rejectEnrollment(1L, Map.of("rejectionReason", "정원 초과")).isSuccess()).isTrue());
+
+        // 수강신청 조회, 반려, 학점 원장 반영
+        assertAtMost(stats, 3);
+    }
+
+    @Test
+    void batchApproveDoesNotGrowWithBatchSize() {
+        SqlRequestStats small = measure(() -> assertThat(approveBatch(2).isSuccess()).isTrue());
+        SqlRequestStats large = measure(() -> assertThat(approveBatch(40).isSuccess()).isTrue());
+
+        // 수강신청 조회, 강의 잠금, 학점 원장 준비, 승인, 정원 반영, 학점 원장 반영
+        assertAtMost(small, 6);
+        assertThat(large.getStatementCount()).isEqualTo(small.getStatementCount());
+        assertThat(large.getRepeatedStatements(2)).isEmpty();
+    }
+
+    private ApiResponse<?> approveBatch(int count) {
+        List<Integer> enrollmentIds = IntStream.rangeClosed(1, count).boxed().toList();
+        return controller.approveEnrollmentsBatch(Map.of("enrollmentIds", enrollmentIds));
+    }
+
+    private static List<Enrollment> enrollments(List<Long> enrollmentIds, String status) {
+        return enrollmentIds.stream().map(id -> enrollment(id, status)).toList();
+    }
+
+    private static Enrollment enrollment(Long enrollmentId, String status) {
+        return Enrollment.builder()
+                .enrollmentId(enrollmentId)
+                .studentId(1000 + enrollmentId)
+                .courseId(enrollmentId % 2 == 0 ? 20L : 21L)
+                .credits(3)
+                .status(status)
+                .appliedAt(LocalDateTime.of(2026, 3, 2, 9, 0).plusMinutes(enrollmentId))
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.lmsproject.lms_backend.util;
+
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+
+/**
+ * 엔드포인트별 SQL 수 회귀 확인용 테스트 도구
+ * DB 없이 매퍼를 Mockito 목으로 대체하고, 매퍼 메서드 호출 한 번을 SQL 한 건으로 SqlRequestStats에 기록합니다.
+ * (스텁으로 지정한 호출도 기록되며, 측정 밖에서 호출한 스텁 설정은 기록되지 않음)
+ */
+public final class SqlStatementCounter {
+
+    private SqlStatementCounter() {
+    }
+
+    public static <T> T countingMapper(Class<T> mapperType) {
+        return Mockito.mock(mapperType, Mockito.withSettings().invocationListeners(report -> {
+            SqlRequestStats stats = SqlRequestStats.current();
+            if (stats != null && report.getInvocation() instanceof Invocation invocation) {
+                stats.record(mapperType.getSimpleName() + "." + invocation.getMethod().getName(), 0);
+            }
+        }));
+    }
+
+    /**
+     * 작업 중 실행된 SQL을 집계하여 반환합니다.
+     */
+    public static SqlRequestStats measure(Runnable action) {
+        SqlRequestStats stats = SqlRequestStats.begin();
+        try {
+            action.run();
+            return stats;
+        } finally {
+            SqlRequestStats.end();
+        }
+    }
+
+    public static void assertAtMost(SqlRequestStats stats, int maxStatements) {
+        if (stats.getStatementCount() > maxStatements) {
+            throw new AssertionError(String.format("SQL %d건 실행 (최대 %d건): %s",
+                    stats.getStatementCount(), maxStatements, stats.getCountsByStatement()));
+        }
+    }
+}